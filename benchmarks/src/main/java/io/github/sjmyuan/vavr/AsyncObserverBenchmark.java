@@ -0,0 +1,97 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Caller-side latency of {@code peek} with a side effect that blocks for 20 µs, like a
+ * synchronous log append, run inline or through an {@link AsyncObserver}. With {@code BLOCK} the
+ * caller is throttled to the consumer's pace once the buffer fills; with {@code DROP} it never
+ * waits and the overflow is dropped. Only {@code published} calls reached the side effect, so
+ * compare the {@code published} and {@code dropped} counters before reading the latencies.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncObserverBenchmark {
+
+    private static final Either<String, Integer> RESULT = Either.right(42);
+
+    @State(Scope.Benchmark)
+    public static class Observer {
+        @Param({"DROP", "BLOCK"})
+        public AsyncObserver.Overflow overflow;
+
+        AsyncObserver<Integer> observer;
+
+        @Setup
+        public void setup() {
+            observer = AsyncObserver.builder(AsyncObserverBenchmark::slowLog).bufferSize(4096)
+                    .overflow(overflow).waitStrategy(AsyncObserver.WaitStrategy.SLEEPING)
+                    .build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            observer.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long published;
+        public long dropped;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            published = 0;
+            dropped = 0;
+        }
+    }
+
+    private static void slowLog(Integer value) {
+        LockSupport.parkNanos(20_000);
+    }
+
+    @Benchmark
+    public Either<String, Integer> inlinePeek() {
+        return RESULT.peek(AsyncObserverBenchmark::slowLog);
+    }
+
+    // Same as observer.peek(RESULT), counting whether the value was handed off.
+    @Benchmark
+    public Either<String, Integer> asyncPeek(Observer state, Counters counters) {
+        if (RESULT.isRight()) {
+            if (state.observer.publish(RESULT.get())) {
+                counters.published++;
+            } else {
+                counters.dropped++;
+            }
+        }
+        return RESULT;
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(RESULT);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CatListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LargeSize {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int size;
+    }
+
+    @State(Scope.Benchmark)
+    public static class SmallSize {
+        // List.append is O(n), so a 1M-element loop would not finish in a reasonable time
+        @Param({"1000", "10000", "100000"})
+        public int size;
+    }
+
+    @Benchmark
+    public CatList<Integer> catListRepeatedAppend(LargeSize state) {
+        CatList<Integer> result = CatList.empty();
+        for (int i = 0; i < state.size; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public CatList<Integer> catListRepeatedAppendAll(LargeSize state) {
+        CatList<Integer> result = CatList.empty();
+        for (int i = 0; i < state.size; i++) {
+            result = result.appendAll(CatList.of(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> listRepeatedAppend(SmallSize state) {
+        List<Integer> result = List.empty();
+        for (int i = 0; i < state.size; i++) {
+            result = result.append(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> listRepeatedAppendAll(SmallSize state) {
+        List<Integer> result = List.empty();
+        for (int i = 0; i < state.size; i++) {
+            result = result.appendAll(List.of(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a service state, a map of lists, with {@link Codec} and with Java
+ * serialization. The encoded size of each is printed at setup; the snapshot methods go through a
+ * file with {@link SnapshotWriter} and {@link SnapshotReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CodecBenchmark {
+
+    @Param({"100000"})
+    public int keys;
+
+    private final Codec<HashMap<String, List<Integer>>> codec =
+            Codec.hashMap(Codec.STRING, Codec.list(Codec.INT));
+
+    private HashMap<String, List<Integer>> state;
+    private byte[] encoded;
+    private byte[] serialized;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        state = HashMap.ofEntries(List.range(0, keys)
+                .map(i -> Tuple.of("user-" + i, List.range(i, i + 10))));
+        encoded = codec.toBytes(state);
+        serialized = javaSerialize(state);
+        file = Files.createTempFile("codec-benchmark", ".snapshot");
+        SnapshotWriter.write(file, codec, state);
+        System.out.printf("%ncodec: %d KB, java serialization: %d KB%n", encoded.length >> 10,
+                serialized.length >> 10);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return codec.toBytes(state);
+    }
+
+    @Benchmark
+    public HashMap<String, List<Integer>> codecDecode() {
+        return codec.fromBytes(encoded);
+    }
+
+    @Benchmark
+    public byte[] javaEncode() throws IOException {
+        return javaSerialize(state);
+    }
+
+    @Benchmark
+    public Object javaDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public Path snapshotWrite() throws IOException {
+        SnapshotWriter.write(file, codec, state);
+        return file;
+    }
+
+    @Benchmark
+    public HashMap<String, List<Integer>> snapshotRead() throws IOException {
+        return SnapshotReader.read(file, codec);
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+}
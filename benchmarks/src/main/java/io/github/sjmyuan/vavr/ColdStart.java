@@ -0,0 +1,188 @@
+package io.github.sjmyuan.vavr;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold-start suite: runs every {@link ColdStartWorkload} in fresh JVMs and reports the median,
+ * over the runs, of the time from process launch to the first result, the first call's latency,
+ * the steady-state latency and the time the calls take to reach it. Each workload is measured as
+ * is, with {@link Prewarm#inBackground(int)} started as the process begins, with an AppCDS
+ * archive, and with both. {@code --startup-ms} makes each process wait that long before its first
+ * call, as an application waiting on I/O during startup would; the background prewarm can use
+ * that time.
+ *
+ * <p>The archive is created from a training run of every workload: the JVM dumps the classes it
+ * loads ({@code -XX:DumpLoadedClassList}) and {@code -Xshare:dump} archives them. It is created
+ * again whenever a class path entry is newer, since the JVM silently ignores an archive whose
+ * jars have changed.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar io.github.sjmyuan.vavr.ColdStart \
+ *     [--runs 5] [--iterations 20000] [--prewarm-iterations 100] [--startup-ms 0]
+ *     [--archive target/vavr-cold-start.jsa]
+ * </pre>
+ */
+public final class ColdStart {
+
+    private enum Config {
+        DEFAULT(false, false), PREWARM(true, false), APPCDS(false, true),
+        APPCDS_PREWARM(true, true);
+
+        final boolean prewarm;
+        final boolean appCds;
+
+        Config(boolean prewarm, boolean appCds) {
+            this.prewarm = prewarm;
+            this.appCds = appCds;
+        }
+    }
+
+    private final String java = Paths.get(System.getProperty("java.home"), "bin", "java")
+            .toString();
+    private final String classPath = System.getProperty("java.class.path");
+    private int runs = 5;
+    private int iterations = 20_000;
+    private int prewarmIterations = Prewarm.DEFAULT_ITERATIONS;
+    private long startupMillis = 0;
+    private Path archive = Paths.get("target", "vavr-cold-start.jsa");
+
+    private ColdStart() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ColdStart suite = new ColdStart();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--runs":
+                    suite.runs = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--iterations":
+                    suite.iterations = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--prewarm-iterations":
+                    suite.prewarmIterations = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--startup-ms":
+                    suite.startupMillis = Long.parseLong(args[i + 1]);
+                    break;
+                case "--archive":
+                    suite.archive = Paths.get(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+        suite.run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        if (isStale()) {
+            createArchive();
+        }
+        System.out.printf("%-14s %-15s %16s %14s %12s %16s%n", "workload", "config",
+                "first result ms", "first call us", "steady ns", "to steady ms");
+        for (ColdStartWorkload workload : ColdStartWorkload.values()) {
+            for (Config config : Config.values()) {
+                double[][] samples = new double[4][runs];
+                for (int r = 0; r < runs; r++) {
+                    double[] sample = probe(workload, config);
+                    for (int m = 0; m < sample.length; m++) {
+                        samples[m][r] = sample[m];
+                    }
+                }
+                System.out.printf("%-14s %-15s %16.1f %14.1f %12.0f %16.2f%n", workload, config,
+                        median(samples[0]), median(samples[1]), median(samples[2]),
+                        median(samples[3]));
+            }
+        }
+    }
+
+    private boolean isStale() throws IOException {
+        if (!Files.exists(archive)) {
+            return true;
+        }
+        FileTime created = Files.getLastModifiedTime(archive);
+        for (String entry : classPath.split(File.pathSeparator)) {
+            Path path = Paths.get(entry);
+            if (Files.exists(path) && Files.getLastModifiedTime(path).compareTo(created) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void createArchive() throws IOException, InterruptedException {
+        Files.createDirectories(archive.toAbsolutePath().getParent());
+        Path classList = Paths.get(archive + ".classlist");
+        exec(java, "-Xshare:off", "-XX:DumpLoadedClassList=" + classList, "-cp", classPath,
+                ColdStartProbe.class.getName(), "ALL", String.valueOf(iterations),
+                String.valueOf(prewarmIterations), "0");
+        exec(java, "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive, "-cp", classPath);
+        System.out.printf("AppCDS archive %s from %d classes%n", archive,
+                Files.readAllLines(classList).size());
+    }
+
+    // Returns {ms to first result, us for the first call, steady ns, ms to steady state}.
+    private double[] probe(ColdStartWorkload workload, Config config)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(Arrays.asList(java, "-cp", classPath));
+        if (config.appCds) {
+            command.add(1, "-XX:SharedArchiveFile=" + archive);
+        }
+        command.addAll(Arrays.asList(ColdStartProbe.class.getName(), workload.name(),
+                String.valueOf(iterations),
+                String.valueOf(config.prewarm ? prewarmIterations : 0),
+                String.valueOf(startupMillis)));
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        double firstResultMs = Double.NaN;
+        String result = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(ColdStartProbe.FIRST)) {
+                    firstResultMs = (System.nanoTime() - start) / 1e6;
+                } else if (line.startsWith(ColdStartProbe.RESULT + " ")) {
+                    result = line;
+                } else {
+                    output.append(line).append('\n');
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("probe failed: " + command + "\n" + output);
+        }
+        String[] fields = result.split(" ");
+        return new double[] {firstResultMs, Long.parseLong(fields[1]) / 1e3,
+            Long.parseLong(fields[2]), Long.parseLong(fields[3]) / 1e6};
+    }
+
+    private static void exec(String... command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        byte[] output = process.getInputStream().readAllBytes();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed:\n"
+                    + new String(output, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.sjmyuan.vavr;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    @Param({"MATCH", "TRY", "EITHER", "OPTION", "VALIDATION", "LIST", "FUNCTION_LIFT", "TUPLE",
+        "FUTURE", "PROMISE", "TASK", "SIDE_EFFECT"})
+    public ColdStartWorkload workload;
+
+    @Param({"false", "true"})
+    public boolean prewarm;
+
+    // Startup time the background prewarm can use before the first call, as in ColdStart.
+    @Param({"0", "100"})
+    public long startupMillis;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        if (prewarm) {
+            Prewarm.inBackground();
+        }
+        Thread.sleep(startupMillis);
+    }
+
+    @Benchmark
+    public Object firstCall() {
+        return workload.run(1);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.sjmyuan.vavr;
+
+import java.util.Arrays;
+
+/**
+ * Child process of {@link ColdStart}: runs one workload in this fresh JVM and reports, on stdout,
+ * the latency of the first call, the steady-state latency and how long the calls took to get
+ * there. Arguments: workload name (or {@code ALL} for a training run), iterations, the
+ * iterations of {@link Prewarm#inBackground(int)} started as the process begins (0 for none), and
+ * the milliseconds the process then waits before its first call, standing in for application
+ * startup that waits on I/O.
+ *
+ * <p>Steady state is the median of the last quarter of the calls; it is reached at the first call
+ * from which a rolling mean over {@value #WINDOW} calls stays within twice that median.
+ */
+public final class ColdStartProbe {
+
+    static final String FIRST = "first-result";
+    static final String RESULT = "result";
+    private static final int WINDOW = 100;
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int prewarm = Integer.parseInt(args[2]);
+        if (prewarm > 0) {
+            Prewarm.inBackground(prewarm);
+        }
+        Thread.sleep(Long.parseLong(args[3]));
+        int iterations = Integer.parseInt(args[1]);
+        if (args[0].equals("ALL")) {
+            for (ColdStartWorkload workload : ColdStartWorkload.values()) {
+                measure(workload, iterations, false);
+            }
+            return;
+        }
+        measure(ColdStartWorkload.valueOf(args[0]), iterations, true);
+    }
+
+    private static void measure(ColdStartWorkload workload, int iterations, boolean report) {
+        long[] nanos = new long[Math.max(iterations, 4 * WINDOW)];
+        long checksum = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            checksum += workload.run(i).hashCode();
+            nanos[i] = System.nanoTime() - start;
+            if (i == 0 && report) {
+                System.out.println(FIRST);
+                System.out.flush();
+            }
+        }
+        if (!report) {
+            return;
+        }
+        long[] tail = Arrays.copyOfRange(nanos, nanos.length * 3 / 4, nanos.length);
+        Arrays.sort(tail);
+        long steady = Math.max(1, tail[tail.length / 2]);
+        int settled = settledAt(nanos, steady);
+        long toSteady = 0;
+        for (int i = 0; i < settled; i++) {
+            toSteady += nanos[i];
+        }
+        System.out.println(RESULT + " " + nanos[0] + " " + steady + " " + toSteady + " "
+                + (checksum & 1));
+    }
+
+    private static int settledAt(long[] nanos, long steady) {
+        long limit = 2 * steady * WINDOW;
+        long sum = 0;
+        for (int i = 0; i < WINDOW; i++) {
+            sum += nanos[i];
+        }
+        int candidate = -1;
+        for (int start = 0; start + WINDOW <= nanos.length; start++) {
+            if (start > 0) {
+                sum += nanos[start + WINDOW - 1] - nanos[start - 1];
+            }
+            if (sum <= limit) {
+                if (candidate < 0) {
+                    candidate = start;
+                }
+            } else {
+                candidate = -1;
+            }
+        }
+        return candidate < 0 ? nanos.length : candidate;
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.API;
+import io.vavr.Function2;
+import io.vavr.Patterns;
+import io.vavr.Tuple;
+import io.vavr.Tuple3;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The examples of the test package, one per kind of vavr API, as units of work for the cold-start
+ * measurements. Each returns a value derived from its input so no call can be folded away.
+ */
+public enum ColdStartWorkload {
+
+    /** PatternTest. */
+    MATCH {
+        @Override
+        Object run(int i) {
+            Integer option = API.Match(Option.some(i)).of(
+                    API.Case(Patterns.$Some(API.$(x -> x < 2)), x -> x + 10),
+                    API.Case(Patterns.$None(), 2),
+                    API.Case(Patterns.$Some(API.$()), x -> x));
+            String either = API.Match(Either.right(i)).of(
+                    API.Case(Patterns.$Left(API.$()), "Left"),
+                    API.Case(Patterns.$Right(API.$()), x -> x.toString()));
+            return option + either.length();
+        }
+    },
+
+    /** TryTest. */
+    TRY {
+        @Override
+        Object run(int i) {
+            return Try.of(() -> Integer.parseInt(i % 10 == 0 ? "a" : "1"))
+                    .map(x -> x + i)
+                    .filter(x -> x > 0, x -> new Exception("Bad"))
+                    .getOrElse(-1);
+        }
+    },
+
+    /** EitherTest. */
+    EITHER {
+        @Override
+        Object run(int i) {
+            Either<String, Integer> either = i % 2 == 0 ? Either.right(i) : Either.left("error");
+            return either.map(x -> x + 1).flatMap(x -> Either.right(x * 2))
+                    .fold(String::length, x -> x);
+        }
+    },
+
+    /** OptionTest and ListAndOptionTest. */
+    OPTION {
+        @Override
+        Object run(int i) {
+            Option<Integer> option = Option.of(i % 3 == 0 ? null : i);
+            return option.map(x -> x + 1).filter(x -> x > 2).getOrElse(0)
+                    + List.ofAll(option).fold(0, (acc, x) -> acc + x);
+        }
+    },
+
+    /** ValidationTest. */
+    VALIDATION {
+        @Override
+        Object run(int i) {
+            Validation<String, String> name =
+                    i % 4 == 0 ? Validation.invalid("name is empty") : Validation.valid("a");
+            Validation<String, Integer> age =
+                    i % 5 == 0 ? Validation.invalid("age is negative") : Validation.valid(i);
+            Validation<Seq<String>, String> result =
+                    Validation.combine(name, age).ap((n, a) -> n + a);
+            return result.fold(Seq::size, String::length);
+        }
+    },
+
+    /** ListTest. */
+    LIST {
+        @Override
+        Object run(int i) {
+            List<Integer> list = List.of(1, 2, 3).append(i).prepend(i);
+            return list.map(x -> x * 2).filter(x -> x > 2).foldLeft(0, Integer::sum)
+                    + list.zip(list.tail()).size() + list.sorted().head();
+        }
+    },
+
+    /** FunctionTest. */
+    FUNCTION_LIFT {
+        @Override
+        Object run(int i) {
+            Function2<Integer, Integer, Integer> division = (x, y) -> x / y;
+            return Function2.lift(division).apply(i, i % 3).getOrElse(0)
+                    + division.curried().apply(i).apply(1);
+        }
+    },
+
+    /** TupleTest. */
+    TUPLE {
+        @Override
+        Object run(int i) {
+            TupleBatch batch = TupleBatch.ofRows(
+                    List.of(Tuple.of(i, i * 1000L, i / 4.0), Tuple.of(i + 1, 0L, 0.5)));
+            Tuple3<Integer, Long, Double> first = batch.row3(0);
+            return batch.mapInt(0, x -> x * 2).getInt(1, 0)
+                    + Tuple.of(i, "s").map1(x -> x + 1)._1 + first._2.intValue();
+        }
+    },
+
+    /** FutureTest, on a work-stealing pool started by the first call. */
+    FUTURE {
+        @Override
+        Object run(int i) {
+            return Future.of(Pools.WORK_STEALING, () -> i).map(x -> x + 1)
+                    .flatMap(x -> Future.of(Pools.WORK_STEALING, () -> x * 2))
+                    .recover(e -> -1).await().get();
+        }
+    },
+
+    /** PromiseTest. */
+    PROMISE {
+        @Override
+        Object run(int i) {
+            Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+            Future<Integer> future = promise.future().map(x -> x + 1);
+            promise.complete(i % 5 == 0 ? Try.failure(new Exception("Error")) : Try.success(i));
+            return future.getOrElse(-1);
+        }
+    },
+
+    /** TaskTest, on the default runtime started by the first call. */
+    TASK {
+        @Override
+        Object run(int i) {
+            return Task.of(() -> i).flatMap(x -> Task.successful(x + 1)).map(x -> x * 2)
+                    .attempt().runSync().get().getOrElse(-1);
+        }
+    },
+
+    /** SideEffectFixTest, the vavr side of SideEffectTest. */
+    SIDE_EFFECT {
+        @Override
+        Object run(int i) {
+            List<Integer> appended = List.of(1, 2).appendAll(List.of(i));
+            String head = Option.of(i % 2 == 0 ? null : i).fold(() -> "No Element", x -> "x");
+            Either<Error, Integer> divided = i % 3 == 0
+                    ? Either.left(new Error("The denominator can not be 0"))
+                    : Either.right(i / 3);
+            Try<Integer> added = Try.of(() -> Integer.valueOf("1"))
+                    .flatMap(x -> Try.of(() -> Integer.valueOf(i % 4 == 0 ? "a" : "2"))
+                            .map(y -> x + y));
+            return appended.size() + head.length() + divided.getOrElse(0)
+                    + added.getOrElse(0);
+        }
+    };
+
+    abstract Object run(int i);
+
+    private static final class Pools {
+        static final ExecutorService WORK_STEALING = FutureExecutors.workStealing(2);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.HashMap;
+import io.vavr.control.Option;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mixed reads and writes on a shared map: a vavr {@link HashMap} swapped through an
+ * {@link AtomicReference} against {@link ConcurrentTrieMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentTrieMapBenchmark {
+
+    private static final int KEYS = 65536;
+
+    @Param({"95", "50"})
+    public int readPercent;
+
+    private final AtomicReference<HashMap<Integer, Integer>> atomic =
+            new AtomicReference<>(HashMap.empty());
+    private final ConcurrentTrieMap<Integer, Integer> trie = ConcurrentTrieMap.empty();
+
+    @Setup
+    public void setup() {
+        HashMap<Integer, Integer> initial = HashMap.empty();
+        for (int i = 0; i < KEYS; i++) {
+            initial = initial.put(i, i);
+            trie.put(i, i);
+        }
+        atomic.set(initial);
+    }
+
+    private Option<Integer> atomicOp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(KEYS);
+        if (random.nextInt(100) < readPercent) {
+            return atomic.get().get(key);
+        }
+        Integer value = random.nextInt();
+        return atomic.getAndUpdate(map -> map.put(key, value)).get(key);
+    }
+
+    private Option<Integer> trieOp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(KEYS);
+        if (random.nextInt(100) < readPercent) {
+            return trie.get(key);
+        }
+        return trie.put(key, random.nextInt());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Option<Integer> atomicHashMap1() {
+        return atomicOp();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Option<Integer> atomicHashMap8() {
+        return atomicOp();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Option<Integer> atomicHashMap64() {
+        return atomicOp();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Option<Integer> trie1() {
+        return trieOp();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Option<Integer> trie8() {
+        return trieOp();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Option<Integer> trie64() {
+        return trieOp();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public HashMap<Integer, Integer> trieSnapshotToHashMap() {
+        return trie.readOnlySnapshot().toHashMap();
+    }
+}
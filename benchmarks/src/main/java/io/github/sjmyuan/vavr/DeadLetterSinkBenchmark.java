@@ -0,0 +1,134 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Processing results of which one in ten is a failure, persisting failures either through a
+ * {@link DeadLetterSink} or by writing and forcing each one on the calling thread. A caller that
+ * finds the sink full yields and offers the failure again, so every failure is persisted in both
+ * variants; compare the {@code deadLetters} counter. At most the sink's capacity of them may still
+ * be queued when an iteration ends. {@code retries} counts the offers refused along the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeadLetterSinkBenchmark {
+
+    private Path sinkFile;
+    private Path syncFile;
+    private DeadLetterSink<String> sink;
+    private FileChannel syncChannel;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long deadLetters;
+        public long retries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            deadLetters = 0;
+            retries = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        sinkFile = Files.createTempFile("dead-letters", ".log");
+        Files.delete(sinkFile);
+        syncFile = Files.createTempFile("dead-letters-sync", ".log");
+        sink = DeadLetterSink.builder(sinkFile, Codec.STRING).build();
+        syncChannel = FileChannel.open(syncFile, StandardOpenOption.WRITE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sink.close();
+        syncChannel.close();
+        Files.deleteIfExists(sinkFile);
+        Files.deleteIfExists(syncFile);
+    }
+
+    private static Either<String, Integer> result() {
+        int value = ThreadLocalRandom.current().nextInt();
+        return value % 10 == 0 ? Either.left("failed to process " + value) : Either.right(value);
+    }
+
+    private Option<Integer> viaSink(Counters counters) {
+        Either<String, Integer> result = result();
+        if (result.isRight()) {
+            return Option.some(result.get());
+        }
+        while (!sink.offer(result.getLeft())) {
+            counters.retries++;
+            Thread.yield();
+        }
+        counters.deadLetters++;
+        return Option.none();
+    }
+
+    private Option<Integer> synchronous(Counters counters) throws IOException {
+        Either<String, Integer> result = result();
+        if (result.isRight()) {
+            return Option.some(result.get());
+        }
+        counters.deadLetters++;
+        ByteBuffer bytes = ByteBuffer.wrap(result.getLeft().getBytes(StandardCharsets.UTF_8));
+        synchronized (syncChannel) {
+            syncChannel.write(bytes);
+            syncChannel.force(false);
+        }
+        return Option.none();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Option<Integer> sink1(Counters counters) {
+        return viaSink(counters);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Option<Integer> sink8(Counters counters) {
+        return viaSink(counters);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Option<Integer> synchronous1(Counters counters) throws IOException {
+        return synchronous(counters);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Option<Integer> synchronous8(Counters counters) throws IOException {
+        return synchronous(counters);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 10k fan-out/fan-in job; run in SampleTime mode so JMH reports the latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FutureBenchmark {
+
+    @Param({"10000"})
+    public int fanOut;
+
+    @Param({"vavrDefault", "cached", "workStealing", "virtualThreads"})
+    public String executorType;
+
+    private Executor executor;
+    private ExecutorService ownedExecutor;
+    private List<Integer> inputs;
+
+    @Setup
+    public void setup() {
+        switch (executorType) {
+            case "cached":
+                ownedExecutor = Executors.newCachedThreadPool();
+                break;
+            case "workStealing":
+                ownedExecutor = FutureExecutors.workStealing();
+                break;
+            case "virtualThreads":
+                ownedExecutor = FutureExecutors.virtualThreads();
+                break;
+            default:
+                ownedExecutor = null;
+        }
+        executor = ownedExecutor == null ? Future.DEFAULT_EXECUTOR : ownedExecutor;
+        inputs = List.range(0, fanOut);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static int work(int x) {
+        return Integer.rotateLeft(x * 31, 7) ^ x;
+    }
+
+    @Benchmark
+    public Seq<Integer> vavrSequence() {
+        return Future.sequence(executor, inputs.map(x -> Future.of(executor, () -> work(x))))
+                .await().get();
+    }
+
+    @Benchmark
+    public Seq<Integer> futuresTraverse() {
+        return Futures.traverse(inputs, x -> Future.of(executor, () -> work(x))).await().get();
+    }
+}
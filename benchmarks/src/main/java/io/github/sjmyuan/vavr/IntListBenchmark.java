@@ -0,0 +1,67 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IntListBenchmark {
+
+    @Param({"10000000"})
+    public int size;
+
+    private List<Integer> vavrList;
+    private IntList intList;
+
+    @Setup
+    public void setup() {
+        intList = IntList.ofAll(IntStream.range(0, size));
+        vavrList = intList.toList();
+    }
+
+    @Benchmark
+    public Integer vavrListSum() {
+        return vavrList.foldLeft(0, (acc, ele) -> acc + ele);
+    }
+
+    @Benchmark
+    public int intListSum() {
+        return intList.foldLeft(0, (acc, ele) -> acc + ele);
+    }
+
+    @Benchmark
+    public List<Integer> vavrListMap() {
+        return vavrList.map(x -> x + 1);
+    }
+
+    @Benchmark
+    public IntList intListMap() {
+        return intList.map(x -> x + 1);
+    }
+
+    @Benchmark
+    public List<Integer> vavrListFilter() {
+        return vavrList.filter(x -> x % 2 == 0);
+    }
+
+    @Benchmark
+    public IntList intListFilter() {
+        return intList.filter(x -> x % 2 == 0);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * filter/map/flatMap/foldLeft over a large List. Run with {@code -prof gc} to compare the
+ * allocation of the eager chain, vavr's Stream and the fused LazySeq pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LazySeqBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = List.range(0, size);
+    }
+
+    @Benchmark
+    public long eagerList() {
+        return list.filter(x -> x % 3 == 0)
+                .map(x -> x * 2)
+                .flatMap(x -> List.of(x, x + 1))
+                .foldLeft(0L, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public long vavrStream() {
+        return Stream.ofAll(list).filter(x -> x % 3 == 0)
+                .map(x -> x * 2)
+                .flatMap(x -> List.of(x, x + 1))
+                .foldLeft(0L, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public long lazySeq() {
+        return LazySeq.of(list).filter(x -> x % 3 == 0)
+                .map(x -> x * 2)
+                .flatMap(x -> List.of(x, x + 1))
+                .foldLeft(0L, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public List<Integer> eagerListToList() {
+        return list.filter(x -> x % 3 == 0).map(x -> x * 2);
+    }
+
+    @Benchmark
+    public List<Integer> lazySeqToList() {
+        return LazySeq.of(list).filter(x -> x % 3 == 0).map(x -> x * 2).toList();
+    }
+}
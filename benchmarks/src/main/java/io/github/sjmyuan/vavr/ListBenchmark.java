@@ -0,0 +1,181 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ListBenchmark {
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+
+    private List<Integer> vavrList;
+    private ArrayList<Integer> arrayList;
+    private LinkedList<Integer> linkedList;
+
+    @Setup
+    public void setup() {
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+        }
+        linkedList = new LinkedList<>(arrayList);
+        vavrList = List.ofAll(arrayList);
+    }
+
+    @Benchmark
+    public List<Integer> vavrAppend() {
+        return vavrList.append(size);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListAppend() {
+        ArrayList<Integer> result = new ArrayList<>(size + 1);
+        result.addAll(arrayList);
+        result.add(size);
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> linkedListAppend() {
+        LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.add(size);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> vavrAppendAll() {
+        return vavrList.appendAll(vavrList);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListAppendAll() {
+        ArrayList<Integer> result = new ArrayList<>(size * 2);
+        result.addAll(arrayList);
+        result.addAll(arrayList);
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> linkedListAppendAll() {
+        LinkedList<Integer> result = new LinkedList<>(linkedList);
+        result.addAll(linkedList);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> vavrFilter() {
+        return vavrList.filter(x -> x % 2 == 0);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListFilter() {
+        ArrayList<Integer> result = new ArrayList<>();
+        for (Integer x : arrayList) {
+            if (x % 2 == 0) {
+                result.add(x);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> linkedListFilter() {
+        LinkedList<Integer> result = new LinkedList<>();
+        for (Integer x : linkedList) {
+            if (x % 2 == 0) {
+                result.add(x);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> vavrMap() {
+        return vavrList.map(x -> x + 1);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListMap() {
+        ArrayList<Integer> result = new ArrayList<>(size);
+        for (Integer x : arrayList) {
+            result.add(x + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> linkedListMap() {
+        LinkedList<Integer> result = new LinkedList<>();
+        for (Integer x : linkedList) {
+            result.add(x + 1);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> vavrFlatMap() {
+        return vavrList.flatMap(x -> List.of(x, x));
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListFlatMap() {
+        ArrayList<Integer> result = new ArrayList<>(size * 2);
+        for (Integer x : arrayList) {
+            result.add(x);
+            result.add(x);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> linkedListFlatMap() {
+        LinkedList<Integer> result = new LinkedList<>();
+        for (Integer x : linkedList) {
+            result.add(x);
+            result.add(x);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Integer vavrFoldLeft() {
+        return vavrList.foldLeft(0, (acc, ele) -> acc + ele);
+    }
+
+    @Benchmark
+    public Integer arrayListFoldLeft() {
+        Integer acc = 0;
+        for (Integer x : arrayList) {
+            acc = acc + x;
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public Integer linkedListFoldLeft() {
+        Integer acc = 0;
+        for (Integer x : linkedList) {
+            acc = acc + x;
+        }
+        return acc;
+    }
+}
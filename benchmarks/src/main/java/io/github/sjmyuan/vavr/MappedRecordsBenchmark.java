@@ -0,0 +1,109 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads a generated CSV of integers end to end. The {@code megabytes} counter reports the
+ * throughput in MB/s; the file stays in the page cache, so this measures parsing, not the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class MappedRecordsBenchmark {
+
+    @Param({"1000000"})
+    public int lines;
+
+    private Path file;
+    private double fileMegabytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("mapped-records", ".csv");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write(Integer.toString(random.nextInt()));
+                writer.write(',');
+                writer.write(Integer.toString(random.nextInt(1_000_000)));
+                writer.write(',');
+                writer.write(Long.toString(random.nextLong()));
+                writer.write('\n');
+            }
+        }
+        fileMegabytes = Files.size(file) / 1e6;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long mapped(Bytes bytes) throws IOException {
+        long sum = 0;
+        try (MappedRecords records = MappedRecords.open(file)) {
+            while (records.hasNext()) {
+                Either<ParseError, NumericRecord> record = records.next();
+                if (record.isRight()) {
+                    sum += record.get().get(1);
+                }
+            }
+        }
+        bytes.megabytes += fileMegabytes;
+        return sum;
+    }
+
+    @Benchmark
+    public long readerSplit(Bytes bytes) throws IOException {
+        long sum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                Either<ParseError, Long> second = Parse.longEither(fields[1]);
+                if (second.isRight()) {
+                    sum += second.get();
+                }
+            }
+        }
+        bytes.megabytes += fileMegabytes;
+        return sum;
+    }
+}
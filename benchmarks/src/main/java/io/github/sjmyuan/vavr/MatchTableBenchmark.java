@@ -0,0 +1,68 @@
+package io.github.sjmyuan.vavr;
+
+import static io.vavr.API.$;
+import static io.vavr.API.Case;
+import static io.vavr.API.Match;
+
+import io.vavr.API;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchTableBenchmark {
+
+    @Param({"3", "30", "300"})
+    public int cases;
+
+    private String[] labels;
+    private MatchTable<Integer, String> table;
+    private int next;
+
+    @Setup
+    public void setup() {
+        labels = new String[cases];
+        MatchTable.Builder<Integer, String> builder = MatchTable.builder();
+        for (int i = 0; i < cases; i++) {
+            labels[i] = Integer.toString(i);
+            builder.constant(i, labels[i]);
+        }
+        table = builder.build();
+    }
+
+    private Integer nextValue() {
+        next = next + 1 == cases ? 0 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String apiMatch() {
+        Integer value = nextValue();
+        API.Match.Case<Integer, String>[] matchCases =
+                (API.Match.Case<Integer, String>[]) new API.Match.Case<?, ?>[cases];
+        for (int i = 0; i < cases; i++) {
+            matchCases[i] = Case($(i), labels[i]);
+        }
+        return Match(value).of(matchCases);
+    }
+
+    @Benchmark
+    public String matchTable() {
+        return table.apply(nextValue());
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function1;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoBenchmark {
+
+    private static final int KEYS = 4096;
+
+    private static Integer slow(Integer x) {
+        int acc = x;
+        for (int i = 0; i < 100; i++) {
+            acc = acc * 31 + i;
+        }
+        return acc;
+    }
+
+    private final Function1<Integer, Integer> vavrMemoized =
+            Function1.of(MemoBenchmark::slow).memoized();
+
+    private final Function1<Integer, Integer> memo =
+            Memo.builder().maximumSize(KEYS).stripes(64).<Integer, Integer>build()
+                    .memoize(MemoBenchmark::slow);
+
+    private static Integer key() {
+        return ThreadLocalRandom.current().nextInt(KEYS);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer vavrMemoized1() {
+        return vavrMemoized.apply(key());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer vavrMemoized8() {
+        return vavrMemoized.apply(key());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer vavrMemoized64() {
+        return vavrMemoized.apply(key());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer memo1() {
+        return memo.apply(key());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer memo8() {
+        return memo.apply(key());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer memo64() {
+        return memo.apply(key());
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of metering a successful and a failing {@code Try} compared to a plain
+ * {@code Try.of}. No JFR recording is running, as in production outside an investigation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeteredBenchmark {
+
+    private static final IllegalStateException ERROR = new IllegalStateException("stackless") {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    };
+
+    public int input = 42;
+
+    private final Meter everyCall = Metered.meter("benchmark-every-call", 1);
+    private final Meter sampled = Metered.meter("benchmark-sampled");
+
+    @Benchmark
+    public Try<Integer> plainTry() {
+        return Try.of(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> meteredEveryCall() {
+        return everyCall.tryOf(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> meteredSampled() {
+        return sampled.tryOf(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> meteredByName() {
+        return Metered.tryOf("benchmark-sampled", () -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> plainTryFailure() {
+        return Try.of(() -> {
+            throw ERROR;
+        });
+    }
+
+    @Benchmark
+    public Try<Integer> meteredSampledFailure() {
+        return sampled.tryOf(() -> {
+            throw ERROR;
+        });
+    }
+}
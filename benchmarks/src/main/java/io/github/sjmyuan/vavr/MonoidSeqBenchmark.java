@@ -0,0 +1,77 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Updates one element of a snapshot and re-aggregates it, either by folding the new version or by
+ * reading the summary cached in a {@link MonoidSeq}. The window methods sum a 10k-element range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonoidSeqBenchmark {
+
+    private static final int WINDOW = 10_000;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Long> list;
+    private Vector<Long> vector;
+    private MonoidSeq<Long, Long> seq;
+
+    @Setup
+    public void setup() {
+        list = List.range(0L, (long) size);
+        vector = Vector.ofAll(list);
+        seq = MonoidSeq.ofAll(Monoid.longSum(), list);
+    }
+
+    private int index() {
+        return ThreadLocalRandom.current().nextInt(size);
+    }
+
+    @Benchmark
+    public long listFoldAfterUpdate() {
+        return list.update(index(), 7L).foldLeft(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long vectorFoldAfterUpdate() {
+        return vector.update(index(), 7L).foldLeft(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long seqSummaryAfterUpdate() {
+        return seq.update(index(), 7L).summary();
+    }
+
+    @Benchmark
+    public long listWindowFold() {
+        int from = ThreadLocalRandom.current().nextInt(size - WINDOW);
+        return list.slice(from, from + WINDOW).foldLeft(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long seqWindowSummary() {
+        int from = ThreadLocalRandom.current().nextInt(size - WINDOW);
+        return seq.summary(from, from + WINDOW);
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Vector;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A large table of longs held either in a vavr {@link Vector} or in an {@link OffHeapVector}.
+ * The heap used by each is printed at setup; {@code fullGc} times a full collection with the
+ * table live, which is what grows with an on-heap table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+public class OffHeapVectorBenchmark {
+
+    @Param({"vector", "offHeap"})
+    public String storage;
+
+    @Param({"10000000"})
+    public int size;
+
+    private Vector<Long> vector;
+    private OffHeapArena arena;
+    private OffHeapVector<Long> offHeap;
+    private int index;
+
+    @Setup
+    public void setup() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        if (storage.equals("vector")) {
+            vector = Vector.tabulate(size, i -> (long) i);
+        } else {
+            arena = OffHeapArena.create();
+            offHeap = OffHeapVector.tabulate(arena, OffHeapVector.Layout.LONG, size, i -> (long) i);
+        }
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%n%s: %d MB of heap for %d elements%n", storage,
+                Math.max(0, after - before) >> 20, size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long get() {
+        index = (index + 7919) % size;
+        return storage.equals("vector") ? vector.get(index) : offHeap.get(index);
+    }
+
+    @Benchmark
+    public long foldLeft() {
+        return storage.equals("vector") ? vector.foldLeft(0L, (acc, x) -> acc + x)
+                : offHeap.foldLeft(0L, (acc, x) -> acc + x);
+    }
+
+    @Benchmark
+    public void fullGc() {
+        System.gc();
+    }
+}
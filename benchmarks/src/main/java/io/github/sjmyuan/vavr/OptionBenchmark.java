@@ -0,0 +1,82 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OptionBenchmark {
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+
+    private List<Integer> vavrValues;
+    private List<Option<Integer>> vavrOptions;
+    private ArrayList<Integer> javaValues;
+    private ArrayList<Optional<Integer>> javaOptionals;
+
+    @Setup
+    public void setup() {
+        javaValues = new ArrayList<>(size);
+        javaOptionals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            javaValues.add(i);
+            javaOptionals.add(Optional.of(i));
+        }
+        vavrValues = List.ofAll(javaValues);
+        vavrOptions = vavrValues.map(Option::some);
+    }
+
+    @Benchmark
+    public Option<io.vavr.collection.Seq<Integer>> vavrSequence() {
+        return Option.sequence(vavrOptions);
+    }
+
+    @Benchmark
+    public Optional<ArrayList<Integer>> optionalSequence() {
+        ArrayList<Integer> result = new ArrayList<>(size);
+        for (Optional<Integer> x : javaOptionals) {
+            if (!x.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(x.get());
+        }
+        return Optional.of(result);
+    }
+
+    @Benchmark
+    public Option<io.vavr.collection.Seq<Integer>> vavrTraverse() {
+        return Option.traverse(vavrValues, x -> x >= 0 ? Option.some(x) : Option.none());
+    }
+
+    @Benchmark
+    public Optional<ArrayList<Integer>> optionalTraverse() {
+        ArrayList<Integer> result = new ArrayList<>(size);
+        for (Integer x : javaValues) {
+            Optional<Integer> mapped = x >= 0 ? Optional.of(x) : Optional.empty();
+            if (!mapped.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(mapped.get());
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One in ten cells empty, held either as a {@code List<Option<Integer>>} or as an
+ * {@link IntOptionColumn}. The heap used by each is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class OptionColumnBenchmark {
+
+    @Param({"list", "column"})
+    public String storage;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Option<Integer>> list;
+    private IntOptionColumn column;
+
+    @Setup
+    public void setup() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        if (storage.equals("list")) {
+            list = List.range(0, size).map(i -> i % 10 == 0 ? Option.none() : Option.some(i));
+        } else {
+            column = IntOptionColumn.tabulate(size,
+                    i -> i % 10 == 0 ? Option.none() : Option.some(i));
+        }
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%n%s: %d MB of heap for %d cells%n", storage,
+                Math.max(0, after - before) >> 20, size);
+    }
+
+    @Benchmark
+    public int sumDefined() {
+        if (list != null) {
+            return list.foldLeft(0, (acc, cell) -> cell.isDefined() ? acc + cell.get() : acc);
+        }
+        return column.foldLeft(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Object mapFilter() {
+        if (list != null) {
+            return list.map(cell -> cell.map(x -> x * 3).filter(x -> (x & 1) == 0));
+        }
+        return column.map(x -> x * 3).filter(x -> (x & 1) == 0);
+    }
+}
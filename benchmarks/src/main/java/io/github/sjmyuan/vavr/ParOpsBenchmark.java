@@ -0,0 +1,100 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Vector;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParOpsBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"8", "32"})
+    public int parallelism;
+
+    private Vector<Integer> vector;
+    private ArrayList<Integer> arrayList;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        vector = Vector.range(0, size);
+        arrayList = new ArrayList<>(vector.toJavaList());
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Long sequentialFoldLeft() {
+        return vector.foldLeft(0L, (acc, ele) -> acc + ele);
+    }
+
+    @Benchmark
+    public Long parOpsFoldMap() {
+        return ParOps.foldMap(pool, vector, x -> (long) x, Monoid.longSum());
+    }
+
+    @Benchmark
+    public Long parallelStreamSum() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> arrayList.parallelStream().mapToLong(x -> x).sum()).get();
+    }
+
+    @Benchmark
+    public Vector<Integer> sequentialMap() {
+        return vector.map(x -> x + 1);
+    }
+
+    @Benchmark
+    public Vector<Integer> parOpsMap() {
+        return ParOps.map(pool, vector, x -> x + 1);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> parallelStreamMap()
+            throws InterruptedException, ExecutionException {
+        return pool.submit(() -> arrayList.parallelStream().map(x -> x + 1)
+                .collect(Collectors.toList())).get();
+    }
+
+    @Benchmark
+    public Vector<Integer> sequentialFilter() {
+        return vector.filter(x -> x % 2 == 0);
+    }
+
+    @Benchmark
+    public Vector<Integer> parOpsFilter() {
+        return ParOps.filter(pool, vector, x -> x % 2 == 0);
+    }
+
+    @Benchmark
+    public java.util.List<Integer> parallelStreamFilter()
+            throws InterruptedException, ExecutionException {
+        return pool.submit(() -> arrayList.parallelStream().filter(x -> x % 2 == 0)
+                .collect(Collectors.toList())).get();
+    }
+}
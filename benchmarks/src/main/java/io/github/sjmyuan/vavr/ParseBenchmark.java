@@ -0,0 +1,76 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    @Param({"0", "10", "90"})
+    public int invalidPercent;
+
+    private String[] inputs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        inputs = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            String number = Integer.toString(random.nextInt());
+            inputs[i] = random.nextInt(100) < invalidPercent ? number + "x" : number;
+        }
+    }
+
+    private String next() {
+        index = (index + 1) & (INPUTS - 1);
+        return inputs[index];
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfValueOf() {
+        String input = next();
+        return Try.of(() -> Integer.valueOf(input));
+    }
+
+    @Benchmark
+    public Try<Integer> parseIntTry() {
+        return Parse.intTry(next());
+    }
+
+    @Benchmark
+    public Either<ParseError, Integer> parseIntEither() {
+        return Parse.intEither(next());
+    }
+
+    @Benchmark
+    public Try<Long> tryOfLongValueOf() {
+        String input = next();
+        return Try.of(() -> Long.valueOf(input));
+    }
+
+    @Benchmark
+    public Either<ParseError, Long> parseLongEither() {
+        return Parse.longEither(next());
+    }
+}
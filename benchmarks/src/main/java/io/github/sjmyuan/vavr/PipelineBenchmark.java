@@ -0,0 +1,69 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function1;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int stages;
+
+    public Integer input = 7;
+
+    private Function1<Integer, Integer> andThenChain;
+    private Pipeline<Integer, Integer> pipeline;
+
+    @Setup
+    public void setup() {
+        Function1<Integer, Integer> chain = Function1.identity();
+        Pipeline.Builder<Integer, Integer> builder = Pipeline.builder();
+        for (int i = 0; i < stages; i++) {
+            Function1<Integer, Integer> stage = stage(i);
+            chain = chain.andThen(stage);
+            builder = builder.then(stage);
+        }
+        andThenChain = chain;
+        pipeline = builder.build();
+    }
+
+    // A few distinct lambda classes, like the stages of a real rule chain.
+    private static Function1<Integer, Integer> stage(int i) {
+        switch (i % 4) {
+            case 0:
+                return x -> x + i;
+            case 1:
+                return x -> x * 31;
+            case 2:
+                return x -> x ^ (x >>> 7);
+            default:
+                return x -> x - 1;
+        }
+    }
+
+    @Benchmark
+    public Integer andThen() {
+        return andThenChain.apply(input);
+    }
+
+    @Benchmark
+    public Integer pipeline() {
+        return pipeline.apply(input);
+    }
+}
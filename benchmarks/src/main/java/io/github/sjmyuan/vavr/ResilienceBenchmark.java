@@ -0,0 +1,70 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Success-path overhead of the resilience combinators compared to running the call bare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResilienceBenchmark {
+
+    public int input = 42;
+
+    private final CircuitBreaker breaker = CircuitBreaker.builder()
+            .failureThreshold(5).openDuration(Duration.ofSeconds(30)).build();
+    private final Bulkhead bulkhead = Bulkhead.of(64);
+    private final RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).build();
+    private final TaskRuntime runtime = TaskRuntime.create(1);
+
+    @TearDown
+    public void tearDown() {
+        runtime.close();
+    }
+
+    @Benchmark
+    public Try<Integer> plainTry() {
+        return Try.of(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> circuitBreaker() {
+        return breaker.tryOf(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> bulkhead() {
+        return bulkhead.tryOf(() -> input + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> plainTask() {
+        return Task.of(() -> input + 1).runSync(runtime);
+    }
+
+    @Benchmark
+    public Try<Integer> retriedTask() {
+        return Task.of(() -> input + 1).retry(policy).runSync(runtime);
+    }
+
+    @Benchmark
+    public Try<Integer> protectedTask() {
+        return bulkhead.protect(breaker.protect(Task.of(() -> input + 1))).runSync(runtime);
+    }
+}
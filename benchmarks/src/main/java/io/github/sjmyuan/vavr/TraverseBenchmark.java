@@ -0,0 +1,90 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TraverseBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"start", "middle", "end", "none"})
+    public String failureAt;
+
+    private List<Integer> values;
+    private List<Option<Integer>> options;
+    private List<Try<Integer>> tries;
+    private int failureIndex;
+
+    @Setup
+    public void setup() {
+        switch (failureAt) {
+            case "start":
+                failureIndex = 0;
+                break;
+            case "middle":
+                failureIndex = size / 2;
+                break;
+            case "end":
+                failureIndex = size - 1;
+                break;
+            default:
+                failureIndex = -1;
+        }
+        Exception error = new Exception("Error");
+        values = List.range(0, size);
+        options = values.map(x -> x == failureIndex ? Option.<Integer>none() : Option.some(x));
+        tries = values.map(x -> x == failureIndex ? Try.<Integer>failure(error) : Try.success(x));
+    }
+
+    @Benchmark
+    public Option<Seq<Integer>> vavrOptionSequence() {
+        return Option.sequence(options);
+    }
+
+    @Benchmark
+    public Option<Seq<Integer>> traverseOptionSequence() {
+        return Traverse.sequenceOption(options);
+    }
+
+    @Benchmark
+    public Option<Seq<Integer>> vavrOptionTraverse() {
+        return Option.traverse(values, x -> x == failureIndex ? Option.none() : Option.some(x));
+    }
+
+    @Benchmark
+    public Option<Seq<Integer>> traverseOptionTraverse() {
+        return Traverse.traverseOption(values,
+                x -> x == failureIndex ? Option.none() : Option.some(x));
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> vavrTrySequence() {
+        return Try.sequence(tries);
+    }
+
+    @Benchmark
+    public Try<Seq<Integer>> traverseTrySequence() {
+        return Traverse.sequenceTry(tries);
+    }
+}
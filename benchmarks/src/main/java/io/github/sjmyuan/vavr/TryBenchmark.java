@@ -0,0 +1,73 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    public String valid = "42";
+    public String invalid = "a";
+
+    @Benchmark
+    public Try<Integer> tryOfSuccess() {
+        return Try.of(() -> Integer.valueOf(valid));
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfFailure() {
+        return Try.of(() -> Integer.valueOf(invalid));
+    }
+
+    @Benchmark
+    public Integer tryCatchSuccess() {
+        try {
+            return Integer.valueOf(valid);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer tryCatchFailure() {
+        try {
+            return Integer.valueOf(invalid);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> tryFlatMapChain() {
+        Try<Integer> xInt = Try.of(() -> Integer.valueOf(valid));
+        Try<Integer> yInt = Try.of(() -> Integer.valueOf(valid));
+        return xInt.flatMap(xv -> yInt.map(yv -> xv + yv));
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherFlatMapChain() {
+        Either<String, Integer> xInt = Either.right(Integer.valueOf(valid));
+        Either<String, Integer> yInt = Either.right(Integer.valueOf(valid));
+        return xInt.flatMap(xv -> yInt.map(yv -> xv + yv));
+    }
+
+    @Benchmark
+    public Integer plainChain() {
+        return Integer.valueOf(valid) + Integer.valueOf(valid);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple3;
+import io.vavr.collection.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TupleBatchBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Tuple3<Integer, Long, Double>> rows;
+    private TupleBatch batch;
+
+    @Setup
+    public void setup() {
+        rows = List.range(0, size).map(i -> Tuple.of(i, (long) i * 7, i * 0.5));
+        batch = TupleBatch.ofRows(rows);
+    }
+
+    @Benchmark
+    public double listSum() {
+        return rows.foldLeft(0.0, (acc, t) -> acc + t._3);
+    }
+
+    @Benchmark
+    public double batchSum() {
+        return batch.foldDouble(2, 0.0, Double::sum);
+    }
+
+    @Benchmark
+    public long listFilterSum() {
+        return rows.filter(t -> t._1 % 4 == 0).foldLeft(0L, (acc, t) -> acc + t._2);
+    }
+
+    @Benchmark
+    public long batchFilterSum() {
+        return batch.filterInt(0, i -> i % 4 == 0).foldLong(1, 0L, Long::sum);
+    }
+}
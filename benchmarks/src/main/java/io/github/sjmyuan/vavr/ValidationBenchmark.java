@@ -0,0 +1,91 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ValidationBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private final RecordValidator validator = RecordValidator.builder()
+            .rule(0, String.class, name -> !name.isEmpty(), "name is empty")
+            .rule(1, Integer.class, age -> age >= 0, "age is negative")
+            .rule(2, String.class, email -> email.indexOf('@') > 0, "email is invalid")
+            .build();
+
+    private Object[][] rows;
+    private Object[][] columns;
+
+    @Setup
+    public void setup() {
+        rows = new Object[size][];
+        columns = new Object[3][size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Object[] {i % 7 == 0 ? "" : "name", i % 11 == 0 ? -1 : i, "a@b"};
+            for (int field = 0; field < 3; field++) {
+                columns[field][i] = rows[i][field];
+            }
+        }
+    }
+
+    private static Validation<String, String> name(Object value) {
+        String name = (String) value;
+        return name.isEmpty() ? Validation.invalid("name is empty") : Validation.valid(name);
+    }
+
+    private static Validation<String, Integer> age(Object value) {
+        Integer age = (Integer) value;
+        return age < 0 ? Validation.invalid("age is negative") : Validation.valid(age);
+    }
+
+    private static Validation<String, String> email(Object value) {
+        String email = (String) value;
+        return email.indexOf('@') > 0 ? Validation.valid(email) : Validation.invalid("email is invalid");
+    }
+
+    @Benchmark
+    public void naiveCombineAp(Blackhole blackhole) {
+        for (Object[] row : rows) {
+            Validation<Seq<String>, Object[]> result = Validation
+                    .combine(name(row[0]), age(row[1]), email(row[2]))
+                    .ap((name, age, email) -> row);
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    public ErrorBuffer validatorRows() {
+        return validator.validateRows(rows);
+    }
+
+    @Benchmark
+    public ErrorBuffer validatorColumns() {
+        return validator.validateColumns(columns, size);
+    }
+
+    @Benchmark
+    public ErrorBuffer validatorRowsParallel() {
+        return validator.validateRows(ForkJoinPool.commonPool(), rows);
+    }
+}
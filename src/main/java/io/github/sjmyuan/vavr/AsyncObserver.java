@@ -0,0 +1,376 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Runs a side effect such as logging or auditing on a dedicated thread instead of the caller's.
+ * Values are published into a preallocated ring buffer, Disruptor-style: producers claim a
+ * sequence, store into its slot and publish it, and the consumer thread hands every published
+ * value to the handler in batches. Being a {@link Consumer}, an observer plugs straight into
+ * {@code peek}: {@code either.peek(observer)} publishes instead of running the handler inline.
+ *
+ * <p>When the buffer is full a value is dropped or the caller waits, per {@link Overflow}. An
+ * exception thrown by the handler is counted in {@link #handlerFailures()} and does not stop the
+ * consumer. Values published while {@link #close()} runs may be lost.
+ */
+public final class AsyncObserver<T> implements Consumer<T>, AutoCloseable {
+
+    /** Who may publish: one thread at a time, or any number concurrently. */
+    public enum ProducerType {
+        SINGLE, MULTI
+    }
+
+    /** What {@link #publish} does when the buffer is full. */
+    public enum Overflow {
+        DROP, BLOCK
+    }
+
+    /** How the consumer waits for values, trading idle CPU for wake-up latency. */
+    public enum WaitStrategy {
+        /** Spins on the cursor; lowest latency, burns a core. */
+        BUSY_SPIN,
+        /** Spins briefly, then yields the CPU between checks. */
+        YIELDING,
+        /** Spins, yields, then sleeps 100 µs between checks. */
+        SLEEPING,
+        /** Parks until a producer wakes it; each publish checks whether it must unpark. */
+        BLOCKING
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000;
+
+    private final Consumer<? super T> handler;
+    private final Object[] slots;
+    private final int mask;
+    private final int shift;
+    private final ProducerType producerType;
+    private final Overflow overflow;
+    private final WaitStrategy waitStrategy;
+
+    // SINGLE: highest published sequence. MULTI: highest claimed sequence.
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // MULTI only: the lap of the sequence last published into each slot.
+    private final AtomicIntegerArray published;
+    // Highest sequence the consumer has finished with; producers must not lap it.
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder handlerFailures = new LongAdder();
+    private final Thread consumer;
+
+    // SINGLE only, touched by the one producer thread.
+    private long claimed = -1;
+    private long cachedConsumed = -1;
+
+    private volatile boolean consumerWaiting;
+    private volatile boolean running = true;
+
+    private AsyncObserver(Builder<T> builder) {
+        this.handler = builder.handler;
+        this.slots = new Object[builder.bufferSize];
+        this.mask = builder.bufferSize - 1;
+        this.shift = Integer.numberOfTrailingZeros(builder.bufferSize);
+        this.producerType = builder.producerType;
+        this.overflow = builder.overflow;
+        this.waitStrategy = builder.waitStrategy;
+        if (producerType == ProducerType.MULTI) {
+            published = new AtomicIntegerArray(builder.bufferSize);
+            for (int i = 0; i < builder.bufferSize; i++) {
+                published.set(i, -1);
+            }
+        } else {
+            published = null;
+        }
+        this.consumer = TaskRuntime.daemonThreadFactory(builder.threadName)
+                .newThread(this::runConsumer);
+        consumer.start();
+    }
+
+    public static <T> Builder<T> builder(Consumer<? super T> handler) {
+        return new Builder<>(handler);
+    }
+
+    /**
+     * Hands a value to the consumer thread. Returns false if the buffer is full and the overflow
+     * policy is {@link Overflow#DROP}.
+     */
+    public boolean publish(T value) {
+        if (!running) {
+            throw new IllegalStateException("observer is closed");
+        }
+        return producerType == ProducerType.SINGLE ? publishSingle(value) : publishMulti(value);
+    }
+
+    @Override
+    public void accept(T value) {
+        publish(value);
+    }
+
+    /** Publishes the value of a {@code Some}; returns the option unchanged. */
+    public Option<T> peek(Option<T> option) {
+        if (option.isDefined()) {
+            publish(option.get());
+        }
+        return option;
+    }
+
+    /** Publishes the value of a {@code Right}; returns the either unchanged. */
+    public <L> Either<L, T> peek(Either<L, T> either) {
+        if (either.isRight()) {
+            publish(either.get());
+        }
+        return either;
+    }
+
+    /** Publishes the value of a {@code Left}; returns the either unchanged. */
+    public <R> Either<T, R> peekLeft(Either<T, R> either) {
+        if (either.isLeft()) {
+            publish(either.getLeft());
+        }
+        return either;
+    }
+
+    /** Publishes the value of a {@code Success}; returns the try unchanged. */
+    public Try<T> peek(Try<T> result) {
+        if (result.isSuccess()) {
+            publish(result.get());
+        }
+        return result;
+    }
+
+    public int bufferSize() {
+        return slots.length;
+    }
+
+    /** Values dropped because the buffer was full. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /** Values whose handler call threw. */
+    public long handlerFailures() {
+        return handlerFailures.sum();
+    }
+
+    /** Values published but not yet handled. */
+    public long pending() {
+        long highest = cursor.get();
+        return Math.max(0, highest - consumed.get());
+    }
+
+    /** Stops accepting values, waits for the consumer to handle those already published. */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean publishSingle(T value) {
+        long sequence = claimed + 1;
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > cachedConsumed) {
+            cachedConsumed = consumed.get();
+            if (wrapPoint > cachedConsumed) {
+                if (overflow == Overflow.DROP) {
+                    dropped.increment();
+                    return false;
+                }
+                cachedConsumed = awaitSpace(wrapPoint);
+            }
+        }
+        claimed = sequence;
+        slots[(int) sequence & mask] = value;
+        cursor.set(sequence);
+        wakeConsumer();
+        return true;
+    }
+
+    private boolean publishMulti(T value) {
+        long sequence;
+        while (true) {
+            long current = cursor.get();
+            sequence = current + 1;
+            long wrapPoint = sequence - slots.length;
+            if (wrapPoint > consumed.get()) {
+                if (overflow == Overflow.DROP) {
+                    dropped.increment();
+                    return false;
+                }
+                awaitSpace(wrapPoint);
+                continue;
+            }
+            if (cursor.compareAndSet(current, sequence)) {
+                break;
+            }
+        }
+        int slot = (int) sequence & mask;
+        slots[slot] = value;
+        published.set(slot, (int) (sequence >>> shift));
+        wakeConsumer();
+        return true;
+    }
+
+    private long awaitSpace(long wrapPoint) {
+        int tries = 0;
+        long current;
+        while (wrapPoint > (current = consumed.get())) {
+            if (!consumer.isAlive()) {
+                throw new IllegalStateException("observer is closed");
+            }
+            if (++tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, 1_000);
+            }
+        }
+        return current;
+    }
+
+    private void wakeConsumer() {
+        if (waitStrategy == WaitStrategy.BLOCKING && consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    // Highest sequence from `next` on whose value is visible to the consumer, or next - 1.
+    private long highestPublished(long next) {
+        long highest = cursor.get();
+        if (producerType == ProducerType.SINGLE) {
+            return highest;
+        }
+        for (long sequence = next; sequence <= highest; sequence++) {
+            if (published.get((int) sequence & mask) != (int) (sequence >>> shift)) {
+                return sequence - 1;
+            }
+        }
+        return highest;
+    }
+
+    private void runConsumer() {
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            boolean stopping = !running;
+            long available = highestPublished(next);
+            if (available >= next) {
+                for (long sequence = next; sequence <= available; sequence++) {
+                    int slot = (int) sequence & mask;
+                    @SuppressWarnings("unchecked")
+                    T value = (T) slots[slot];
+                    slots[slot] = null;
+                    try {
+                        handler.accept(value);
+                    } catch (Throwable e) {
+                        handlerFailures.increment();
+                    }
+                }
+                consumed.set(available);
+                next = available + 1;
+                idle = 0;
+            } else if (stopping) {
+                return;
+            } else {
+                idle = await(next, idle);
+            }
+        }
+    }
+
+    private int await(long next, int idle) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELDING:
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                break;
+            case SLEEPING:
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idle < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, SLEEP_NANOS);
+                }
+                break;
+            default:
+                consumerWaiting = true;
+                if (highestPublished(next) < next && running) {
+                    LockSupport.park(this);
+                }
+                consumerWaiting = false;
+        }
+        return idle + 1;
+    }
+
+    public static final class Builder<T> {
+        private final Consumer<? super T> handler;
+        private int bufferSize = 1024;
+        private ProducerType producerType = ProducerType.MULTI;
+        private Overflow overflow = Overflow.DROP;
+        private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+        private String threadName = "async-observer";
+
+        private Builder(Consumer<? super T> handler) {
+            this.handler = handler;
+        }
+
+        /** Number of slots, a power of two. */
+        public Builder<T> bufferSize(int bufferSize) {
+            if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+                throw new IllegalArgumentException("bufferSize must be a power of two, at least 2");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public Builder<T> producerType(ProducerType producerType) {
+            this.producerType = producerType;
+            return this;
+        }
+
+        public Builder<T> overflow(Overflow overflow) {
+            this.overflow = overflow;
+            return this;
+        }
+
+        public Builder<T> waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder<T> threadName(String threadName) {
+            this.threadName = threadName;
+            return this;
+        }
+
+        /** Starts the consumer thread. */
+        public AsyncObserver<T> build() {
+            return new AsyncObserver<>(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.sjmyuan.vavr;
+
+// Validity bitmaps of the option columns: bit i of a long[] tells whether cell i holds a value.
+final class Bitmaps {
+
+    private Bitmaps() {
+    }
+
+    static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    static long[] and(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = a[i] & b[i];
+        }
+        return result;
+    }
+}
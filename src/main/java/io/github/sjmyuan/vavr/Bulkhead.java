@@ -0,0 +1,69 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Try;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many calls run at once. A call that finds every permit taken fails immediately with
+ * {@link CallRejectedException} instead of queueing, so a slow downstream cannot tie up every
+ * caller.
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final AtomicInteger available;
+
+    private Bulkhead(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.available = new AtomicInteger(maxConcurrent);
+    }
+
+    public static Bulkhead of(int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        return new Bulkhead(maxConcurrent);
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int available() {
+        return available.get();
+    }
+
+    public <T> Try<T> tryOf(CheckedFunction0<? extends T> supplier) {
+        if (!tryAcquire()) {
+            return Try.failure(CallRejectedException.BULKHEAD_FULL);
+        }
+        try {
+            return Try.of(supplier);
+        } finally {
+            available.incrementAndGet();
+        }
+    }
+
+    /**
+     * Holds a permit from the start of the task until it completes, fails or its run is
+     * cancelled.
+     */
+    public <T> Task<T> protect(Task<T> task) {
+        return Task.of(this::tryAcquire).flatMap(acquired -> acquired
+                ? task.guarantee(available::incrementAndGet)
+                : Task.failed(CallRejectedException.BULKHEAD_FULL));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = available.get();
+            if (current == 0) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+}
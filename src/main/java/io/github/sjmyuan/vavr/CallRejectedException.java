@@ -0,0 +1,33 @@
+package io.github.sjmyuan.vavr;
+
+/**
+ * Failure of a call that a {@link CircuitBreaker}, {@link Bulkhead} or {@link DeadLetterSink}
+ * refused to run. Rejections happen exactly when a downstream is struggling, so the instances are
+ * preallocated and carry no stack trace.
+ */
+public final class CallRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        CIRCUIT_OPEN, BULKHEAD_FULL, SINK_FULL
+    }
+
+    static final CallRejectedException CIRCUIT_OPEN =
+            new CallRejectedException(Reason.CIRCUIT_OPEN, "circuit breaker is open");
+    static final CallRejectedException BULKHEAD_FULL =
+            new CallRejectedException(Reason.BULKHEAD_FULL, "bulkhead is full");
+    static final CallRejectedException SINK_FULL =
+            new CallRejectedException(Reason.SINK_FULL, "dead-letter sink is full");
+
+    private final Reason reason;
+
+    private CallRejectedException(Reason reason, String message) {
+        super(message, null, false, false);
+        this.reason = reason;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Catenable persistent list (Okasaki): a head element plus a queue of child lists. Append,
+ * prepend and concat only enqueue a child, so they are O(1). Tail links the children into one
+ * list, which is O(children) in the worst case; a list built by n appends has n children. The
+ * result is cached, so further tails of the same list are O(1), and walking a list with tail
+ * costs O(n) in total.
+ */
+public final class CatList<T> implements Iterable<T> {
+
+    private static final CatList<?> EMPTY = new CatList<>(null, Queue.empty(), 0);
+
+    private final T head;
+    private final Queue<CatList<T>> children;
+    private final int size;
+    private volatile CatList<T> tail;
+
+    private CatList(T head, Queue<CatList<T>> children, int size) {
+        this.head = head;
+        this.children = children;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CatList<T> empty() {
+        return (CatList<T>) EMPTY;
+    }
+
+    public static <T> CatList<T> of(T value) {
+        return new CatList<>(value, Queue.empty(), 1);
+    }
+
+    @SafeVarargs
+    public static <T> CatList<T> of(T... values) {
+        CatList<T> result = empty();
+        for (T value : values) {
+            result = result.append(value);
+        }
+        return result;
+    }
+
+    public static <T> CatList<T> ofAll(Iterable<? extends T> values) {
+        CatList<T> result = empty();
+        for (T value : values) {
+            result = result.append(value);
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T head() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("head of empty CatList");
+        }
+        return head;
+    }
+
+    public CatList<T> tail() {
+        if (isEmpty()) {
+            throw new UnsupportedOperationException("tail of empty CatList");
+        }
+        CatList<T> result = tail;
+        if (result == null) {
+            result = children.isEmpty() ? empty() : linkAll(children);
+            tail = result;
+        }
+        return result;
+    }
+
+    public CatList<T> append(T value) {
+        return appendAll(of(value));
+    }
+
+    public CatList<T> prepend(T value) {
+        return of(value).appendAll(this);
+    }
+
+    public CatList<T> appendAll(CatList<T> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        return link(this, other);
+    }
+
+    public CatList<T> prependAll(CatList<T> other) {
+        return other.appendAll(this);
+    }
+
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> f) {
+        U acc = zero;
+        for (T value : this) {
+            acc = f.apply(acc, value);
+        }
+        return acc;
+    }
+
+    public List<T> toList() {
+        return List.ofAll(this);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Iterator<CatList<T>>> stack = new ArrayDeque<>();
+            private CatList<T> next = isEmpty() ? null : CatList.this;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException("next() on empty iterator");
+                }
+                T value = next.head;
+                if (!next.children.isEmpty()) {
+                    stack.push(next.children.iterator());
+                }
+                next = null;
+                while (!stack.isEmpty()) {
+                    Iterator<CatList<T>> top = stack.peek();
+                    if (top.hasNext()) {
+                        next = top.next();
+                        break;
+                    }
+                    stack.pop();
+                }
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CatList)) {
+            return false;
+        }
+        CatList<?> that = (CatList<?>) other;
+        if (size != that.size) {
+            return false;
+        }
+        Iterator<?> it = that.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T value : this) {
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toList().mkString("CatList(", ", ", ")");
+    }
+
+    private static <T> CatList<T> link(CatList<T> left, CatList<T> right) {
+        return new CatList<>(left.head, left.children.enqueue(right), left.size + right.size);
+    }
+
+    private static <T> CatList<T> linkAll(Queue<CatList<T>> lists) {
+        Object[] array = lists.toJavaArray();
+        @SuppressWarnings("unchecked")
+        CatList<T> result = (CatList<T>) array[array.length - 1];
+        for (int i = array.length - 2; i >= 0; i--) {
+            @SuppressWarnings("unchecked")
+            CatList<T> left = (CatList<T>) array[i];
+            result = link(left, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing downstream. After {@code failureThreshold} consecutive failures the
+ * breaker opens and rejects calls with {@link CallRejectedException} for {@code openDuration};
+ * then a single trial call is let through, which opens the breaker again on a recorded failure
+ * and closes it on any other outcome. A trial that never completes, such as a cancelled task, is
+ * given up after another {@code openDuration} and a new trial is let through. State changes are
+ * CASes on one immutable state object, and a success while closed with no recorded failures
+ * writes nothing.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final class Status {
+        final State state;
+        final int failures;
+        final long openedAt;
+
+        Status(State state, int failures, long openedAt) {
+            this.state = state;
+            this.failures = failures;
+            this.openedAt = openedAt;
+        }
+    }
+
+    private static final Status CLOSED = new Status(State.CLOSED, 0, 0);
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Predicate<? super Throwable> recordFailure;
+    private final LongSupplier ticker;
+    private final AtomicReference<Status> status = new AtomicReference<>(CLOSED);
+
+    private CircuitBreaker(Builder builder) {
+        this.failureThreshold = builder.failureThreshold;
+        this.openNanos = builder.openDuration.toNanos();
+        this.recordFailure = builder.recordFailure;
+        this.ticker = builder.ticker;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public State state() {
+        return status.get().state;
+    }
+
+    public <T> Try<T> tryOf(CheckedFunction0<? extends T> supplier) {
+        if (!tryAcquire()) {
+            return Try.failure(CallRejectedException.CIRCUIT_OPEN);
+        }
+        Try<T> result = Try.of(supplier);
+        if (result.isSuccess()) {
+            onSuccess();
+        } else {
+            onFailure(result.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * Left values count as failures; a rejected call becomes the left given by {@code rejected}.
+     */
+    public <L, R> Either<L, R> either(Supplier<? extends Either<? extends L, ? extends R>> supplier,
+            Function<? super CallRejectedException, ? extends L> rejected) {
+        if (!tryAcquire()) {
+            return Either.left(rejected.apply(CallRejectedException.CIRCUIT_OPEN));
+        }
+        Either<L, R> result = Either.narrow(supplier.get());
+        if (result.isRight()) {
+            onSuccess();
+        } else {
+            recordFailure();
+        }
+        return result;
+    }
+
+    public <T> Task<T> protect(Task<T> task) {
+        return Task.of(this::tryAcquire).flatMap(permitted -> permitted
+                ? task.attempt().flatMap(result -> {
+                    if (result.isSuccess()) {
+                        onSuccess();
+                        return Task.successful(result.get());
+                    }
+                    onFailure(result.getCause());
+                    return Task.<T>failed(result.getCause());
+                })
+                : Task.failed(CallRejectedException.CIRCUIT_OPEN));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            Status current = status.get();
+            if (current.state == State.CLOSED) {
+                return true;
+            }
+            // openedAt is when the breaker opened, or when the pending trial started.
+            long now = ticker.getAsLong();
+            if (now - current.openedAt < openNanos) {
+                return false;
+            }
+            if (status.compareAndSet(current, new Status(State.HALF_OPEN, 0, now))) {
+                return true;
+            }
+        }
+    }
+
+    private void onSuccess() {
+        Status current = status.get();
+        // A call that started before the breaker opened does not close it.
+        if (current != CLOSED && current.state != State.OPEN) {
+            status.compareAndSet(current, CLOSED);
+        }
+    }
+
+    private void onFailure(Throwable error) {
+        if (recordFailure.test(error)) {
+            recordFailure();
+            return;
+        }
+        // An unrecorded failure still shows the downstream answering, so it ends a trial.
+        Status current = status.get();
+        if (current.state == State.HALF_OPEN) {
+            status.compareAndSet(current, CLOSED);
+        }
+    }
+
+    private void recordFailure() {
+        while (true) {
+            Status current = status.get();
+            Status next;
+            if (current.state == State.OPEN) {
+                return;
+            } else if (current.state == State.HALF_OPEN
+                    || current.failures + 1 >= failureThreshold) {
+                next = new Status(State.OPEN, 0, ticker.getAsLong());
+            } else {
+                next = new Status(State.CLOSED, current.failures + 1, 0);
+            }
+            if (status.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    public static final class Builder {
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private Predicate<? super Throwable> recordFailure = error -> true;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        public Builder failureThreshold(int failureThreshold) {
+            if (failureThreshold < 1) {
+                throw new IllegalArgumentException("failureThreshold must be at least 1");
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /** Only exceptions matching the predicate count as failures; all of them by default. */
+        public Builder recordFailure(Predicate<? super Throwable> recordFailure) {
+            this.recordFailure = recordFailure;
+            return this;
+        }
+
+        /** Source of nanosecond timestamps, {@link System#nanoTime()} by default. */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
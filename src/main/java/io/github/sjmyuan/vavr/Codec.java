@@ -0,0 +1,170 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+
+/**
+ * Compact binary encoding of a value type. Codecs for collections and for {@code Option},
+ * {@code Either}, {@code Try} and {@code Validation} are built from codecs of their elements, so
+ * the format carries no class names or field descriptors: a {@code List<Integer>} of small numbers
+ * costs about one byte per element.
+ */
+public interface Codec<T> {
+
+    Codec<Integer> INT = of((value, out) -> out.writeInt(value), CodecInput::readInt);
+
+    Codec<Long> LONG = of((value, out) -> out.writeLong(value), CodecInput::readLong);
+
+    Codec<Double> DOUBLE = of((value, out) -> out.writeDouble(value), CodecInput::readDouble);
+
+    Codec<Boolean> BOOLEAN = of((value, out) -> out.writeBoolean(value), CodecInput::readBoolean);
+
+    Codec<String> STRING = of((value, out) -> out.writeString(value), CodecInput::readString);
+
+    /**
+     * Writes the class name and message of an error. Reading creates the same class through its
+     * {@code (String)} constructor, or a {@code RuntimeException} naming the class when there is
+     * none; stack traces and causes are not kept.
+     */
+    Codec<Throwable> THROWABLE = of((error, out) -> {
+        out.writeString(error.getClass().getName());
+        out.writeNullableString(error.getMessage());
+    }, in -> Codecs.throwable(in.readString(), in.readNullableString()));
+
+    void write(T value, CodecOutput out);
+
+    T read(CodecInput in);
+
+    default byte[] toBytes(T value) {
+        return CodecOutput.encode(this, value);
+    }
+
+    default T fromBytes(byte[] bytes) {
+        CodecInput in = CodecInput.of(bytes);
+        T value = read(in);
+        if (in.hasRemaining()) {
+            throw CodecInput.corrupt("trailing bytes after value");
+        }
+        return value;
+    }
+
+    static <T> Codec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new Codec<T>() {
+            @Override
+            public void write(T value, CodecOutput out) {
+                writer.write(value, out);
+            }
+
+            @Override
+            public T read(CodecInput in) {
+                return reader.read(in);
+            }
+        };
+    }
+
+    static <T> Codec<List<T>> list(Codec<T> element) {
+        return of((list, out) -> {
+            out.writeVarInt(list.size());
+            for (T value : list) {
+                element.write(value, out);
+            }
+        }, in -> List.of(Codecs.readArray(element, in)));
+    }
+
+    static <T> Codec<Vector<T>> vector(Codec<T> element) {
+        return of((vector, out) -> {
+            out.writeVarInt(vector.size());
+            for (T value : vector) {
+                element.write(value, out);
+            }
+        }, in -> Vector.of(Codecs.readArray(element, in)));
+    }
+
+    static <K, V> Codec<HashMap<K, V>> hashMap(Codec<K> key, Codec<V> value) {
+        return of((map, out) -> {
+            out.writeVarInt(map.size());
+            for (Tuple2<K, V> entry : map) {
+                key.write(entry._1, out);
+                value.write(entry._2, out);
+            }
+        }, in -> {
+            int size = in.readLength();
+            HashMap<K, V> map = HashMap.empty();
+            for (int i = 0; i < size; i++) {
+                map = map.put(key.read(in), value.read(in));
+            }
+            return map;
+        });
+    }
+
+    static <A, B> Codec<Tuple2<A, B>> tuple2(Codec<A> first, Codec<B> second) {
+        return of((tuple, out) -> {
+            first.write(tuple._1, out);
+            second.write(tuple._2, out);
+        }, in -> Tuple.of(first.read(in), second.read(in)));
+    }
+
+    static <T> Codec<Option<T>> option(Codec<T> element) {
+        return of((option, out) -> {
+            out.writeBoolean(option.isDefined());
+            if (option.isDefined()) {
+                element.write(option.get(), out);
+            }
+        }, in -> in.readBoolean() ? Option.some(element.read(in)) : Option.none());
+    }
+
+    static <L, R> Codec<Either<L, R>> either(Codec<L> left, Codec<R> right) {
+        return of((either, out) -> {
+            out.writeBoolean(either.isRight());
+            if (either.isRight()) {
+                right.write(either.get(), out);
+            } else {
+                left.write(either.getLeft(), out);
+            }
+        }, in -> in.readBoolean() ? Either.right(right.read(in)) : Either.left(left.read(in)));
+    }
+
+    static <T> Codec<Try<T>> tryOf(Codec<T> element) {
+        return tryOf(element, THROWABLE);
+    }
+
+    static <T> Codec<Try<T>> tryOf(Codec<T> element, Codec<Throwable> error) {
+        return of((result, out) -> {
+            out.writeBoolean(result.isSuccess());
+            if (result.isSuccess()) {
+                element.write(result.get(), out);
+            } else {
+                error.write(result.getCause(), out);
+            }
+        }, in -> in.readBoolean() ? Try.success(element.read(in)) : Try.failure(error.read(in)));
+    }
+
+    static <E, T> Codec<Validation<E, T>> validation(Codec<E> error, Codec<T> element) {
+        return of((validation, out) -> {
+            out.writeBoolean(validation.isValid());
+            if (validation.isValid()) {
+                element.write(validation.get(), out);
+            } else {
+                error.write(validation.getError(), out);
+            }
+        }, in -> in.readBoolean() ? Validation.valid(element.read(in))
+                : Validation.invalid(error.read(in)));
+    }
+
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(T value, CodecOutput out);
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(CodecInput in);
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.sjmyuan.vavr;
+
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads what a {@link CodecOutput} wrote, straight from a heap or memory-mapped buffer. Truncated
+ * or malformed input fails with an {@link UncheckedIOException} caused by a
+ * {@link StreamCorruptedException}.
+ */
+public final class CodecInput {
+
+    private final ByteBuffer buffer;
+
+    private CodecInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static CodecInput of(ByteBuffer buffer) {
+        return new CodecInput(buffer);
+    }
+
+    public static CodecInput of(byte[] bytes) {
+        return new CodecInput(ByteBuffer.wrap(bytes));
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    public int readByte() {
+        try {
+            return buffer.get() & 0xff;
+        } catch (BufferUnderflowException e) {
+            throw corrupt("unexpected end of input");
+        }
+    }
+
+    public boolean readBoolean() {
+        int value = readByte();
+        if (value > 1) {
+            throw corrupt("invalid boolean " + value);
+        }
+        return value == 1;
+    }
+
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7f) << shift;
+            if (b < 0x80) {
+                return result;
+            }
+        }
+        throw corrupt("varint longer than 5 bytes");
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7f) << shift;
+            if (b < 0x80) {
+                return result;
+            }
+        }
+        throw corrupt("varint longer than 10 bytes");
+    }
+
+    public int readInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public double readDouble() {
+        try {
+            return buffer.getDouble();
+        } catch (BufferUnderflowException e) {
+            throw corrupt("unexpected end of input");
+        }
+    }
+
+    public String readString() {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    public String readNullableString() {
+        int length = readLength() - 1;
+        if (length < 0) {
+            return null;
+        }
+        return new String(readRaw(length), StandardCharsets.UTF_8);
+    }
+
+    public byte[] readBytes() {
+        return readRaw(readLength());
+    }
+
+    /** Reads a collection size, checked against the bytes left so corrupt input cannot OOM. */
+    public int readLength() {
+        int length = readVarInt();
+        if (length < 0 || length > buffer.remaining() + 1) {
+            throw corrupt("invalid length " + length);
+        }
+        return length;
+    }
+
+    static UncheckedIOException corrupt(String message) {
+        return new UncheckedIOException(new StreamCorruptedException(message));
+    }
+
+    private byte[] readRaw(int length) {
+        if (length > buffer.remaining()) {
+            throw corrupt("unexpected end of input");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.sjmyuan.vavr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered sink for {@link Codec}s. Integers are written as LEB128 varints (zigzag for signed
+ * values), doubles as their 8 raw bytes and strings as a varint length followed by UTF-8 bytes.
+ * The buffer is written to the channel whenever it fills, so the encoded size is not bounded by
+ * memory.
+ */
+public final class CodecOutput {
+
+    static final int DEFAULT_BUFFER = 64 << 10;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    CodecOutput(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    public static CodecOutput to(WritableByteChannel channel) {
+        return new CodecOutput(channel, DEFAULT_BUFFER);
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /** Writes a non-negative int, such as a length, in 1 to 5 bytes. */
+    public void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7f) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7fL) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /** Writes a signed int so that small negative values stay short. */
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeDouble(double value) {
+        ensure(8);
+        buffer.putDouble(value);
+    }
+
+    public void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Writes a string or null, at the cost of no extra byte for the common short string. */
+    public void writeNullableString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeRaw(bytes);
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        writeRaw(bytes);
+    }
+
+    /** Writes the buffered bytes to the channel. */
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private void writeRaw(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    static byte[] encode(Codec<?> codec, Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodecOutput out = new CodecOutput(Channels.newChannel(bytes), 4096);
+        @SuppressWarnings("unchecked")
+        Codec<Object> anyCodec = (Codec<Object>) codec;
+        anyCodec.write(value, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
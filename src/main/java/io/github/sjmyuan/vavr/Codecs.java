@@ -0,0 +1,39 @@
+package io.github.sjmyuan.vavr;
+
+// Helpers for the static methods of Codec, kept out of its public surface.
+final class Codecs {
+
+    private Codecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T[] readArray(Codec<T> element, CodecInput in) {
+        Object[] values = new Object[in.readLength()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = element.read(in);
+        }
+        return (T[]) values;
+    }
+
+    // The class name comes from the input, so it is resolved without running static initializers
+    // and only instantiated once it is known to be a Throwable.
+    static Throwable throwable(String className, String message) {
+        Class<?> type;
+        try {
+            type = Class.forName(className, false, Codecs.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            type = null;
+        }
+        if (type != null && !Throwable.class.isAssignableFrom(type)) {
+            throw CodecInput.corrupt("not a Throwable: " + className);
+        }
+        if (type != null) {
+            try {
+                return (Throwable) type.getConstructor(String.class).newInstance(message);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // fall through to a generic exception carrying the original class name
+            }
+        }
+        return new RuntimeException(className + (message == null ? "" : ": " + message));
+    }
+}
@@ -0,0 +1,588 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.HashMap;
+import io.vavr.control.Option;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
+
+/**
+ * A lock-free concurrent hash trie (Prokopec et al., "Concurrent Tries with Efficient Non-Blocking
+ * Snapshots"). Writers CAS only the trie node they change, so writes to different keys rarely
+ * contend, unlike swapping a whole {@link HashMap} through one {@code AtomicReference}.
+ *
+ * <p>{@link #snapshot()} and {@link #readOnlySnapshot()} take O(1) consistent snapshots: they
+ * install a new generation at the root and nodes are copied lazily as later writes reach them.
+ * {@link #toHashMap()} turns such a snapshot into a vavr map. Null keys and values are not
+ * supported.
+ */
+public final class ConcurrentTrieMap<K, V> {
+
+    private static final Object RESTART = new Object();
+    private static final Object NOT_FOUND = new Object();
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentTrieMap, Object> ROOT =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentTrieMap.class, Object.class, "root");
+
+    // An INode, or a Descriptor while a snapshot replaces the root.
+    private volatile Object root;
+    private final boolean readOnly;
+
+    private ConcurrentTrieMap(INode root, boolean readOnly) {
+        this.root = root;
+        this.readOnly = readOnly;
+    }
+
+    public static <K, V> ConcurrentTrieMap<K, V> empty() {
+        Gen gen = new Gen();
+        INode root = new INode(gen);
+        root.main = new CNode(0, new Object[0], gen);
+        return new ConcurrentTrieMap<>(root, false);
+    }
+
+    public Option<V> get(K key) {
+        int hc = hash(key);
+        while (true) {
+            INode r = readRoot(false);
+            Object result = r.lookup(key, hc, 0, null, r.gen, this);
+            if (result != RESTART) {
+                return option(result);
+            }
+        }
+    }
+
+    public boolean containsKey(K key) {
+        return get(key).isDefined();
+    }
+
+    /** Maps the key to the value and returns the previous value, if any. */
+    public Option<V> put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        checkWritable();
+        int hc = hash(key);
+        while (true) {
+            INode r = readRoot(false);
+            Object result = r.insert(key, value, hc, 0, null, r.gen, this);
+            if (result != RESTART) {
+                return option(result);
+            }
+        }
+    }
+
+    /** Removes the key and returns its value, if any. */
+    public Option<V> remove(K key) {
+        checkWritable();
+        int hc = hash(key);
+        while (true) {
+            INode r = readRoot(false);
+            Object result = r.remove(key, hc, 0, null, r.gen, this);
+            if (result != RESTART) {
+                return option(result);
+            }
+        }
+    }
+
+    /** A writable, independent copy of this map, taken in O(1). */
+    public ConcurrentTrieMap<K, V> snapshot() {
+        checkWritable();
+        while (true) {
+            INode r = readRoot(false);
+            MainNode expected = r.gcasRead(this);
+            if (rdcssRoot(r, expected, r.copyToGen(new Gen(), this))) {
+                return new ConcurrentTrieMap<>(r.copyToGen(new Gen(), this), false);
+            }
+        }
+    }
+
+    /** A read-only view of this map at this instant, taken in O(1). */
+    public ConcurrentTrieMap<K, V> readOnlySnapshot() {
+        if (readOnly) {
+            return this;
+        }
+        while (true) {
+            INode r = readRoot(false);
+            MainNode expected = r.gcasRead(this);
+            if (rdcssRoot(r, expected, r.copyToGen(new Gen(), this))) {
+                return new ConcurrentTrieMap<>(r, true);
+            }
+        }
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /** Visits every entry of a consistent snapshot. */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        ConcurrentTrieMap<K, V> snapshot = readOnlySnapshot();
+        snapshot.readRoot(false).forEach(snapshot, (BiConsumer<Object, Object>) action);
+    }
+
+    public int size() {
+        int[] size = {0};
+        forEach((key, value) -> size[0]++);
+        return size[0];
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** The entries of a consistent snapshot as a vavr map. */
+    @SuppressWarnings("unchecked")
+    public HashMap<K, V> toHashMap() {
+        HashMap<K, V>[] result = (HashMap<K, V>[]) new HashMap<?, ?>[] {HashMap.empty()};
+        forEach((key, value) -> result[0] = result[0].put(key, value));
+        return result[0];
+    }
+
+    @Override
+    public String toString() {
+        return toHashMap().mkString("ConcurrentTrieMap(", ", ", ")");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Option<V> option(Object result) {
+        return result == NOT_FOUND ? Option.none() : Option.some((V) result);
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("read-only snapshot");
+        }
+    }
+
+    private static int hash(Object key) {
+        int hc = key.hashCode();
+        int h = hc + ~(hc << 9);
+        h ^= h >>> 14;
+        h += h << 4;
+        return h ^ (h >>> 10);
+    }
+
+    // Root replacement through RDCSS: the root only changes if its main node is still expected.
+
+    private INode readRoot(boolean abort) {
+        Object r = root;
+        return r instanceof INode ? (INode) r : rdcssComplete(abort);
+    }
+
+    private INode rdcssComplete(boolean abort) {
+        while (true) {
+            Object r = root;
+            if (r instanceof INode) {
+                return (INode) r;
+            }
+            Descriptor desc = (Descriptor) r;
+            if (abort) {
+                if (ROOT.compareAndSet(this, desc, desc.old)) {
+                    return desc.old;
+                }
+            } else if (desc.old.gcasRead(this) == desc.expectedMain) {
+                if (ROOT.compareAndSet(this, desc, desc.next)) {
+                    desc.committed = true;
+                    return desc.next;
+                }
+            } else if (ROOT.compareAndSet(this, desc, desc.old)) {
+                return desc.old;
+            }
+        }
+    }
+
+    private boolean rdcssRoot(INode old, MainNode expectedMain, INode next) {
+        Descriptor desc = new Descriptor(old, expectedMain, next);
+        if (ROOT.compareAndSet(this, old, desc)) {
+            rdcssComplete(false);
+            return desc.committed;
+        }
+        return false;
+    }
+
+    private static final class Descriptor {
+        final INode old;
+        final MainNode expectedMain;
+        final INode next;
+        volatile boolean committed;
+
+        Descriptor(INode old, MainNode expectedMain, INode next) {
+            this.old = old;
+            this.expectedMain = expectedMain;
+            this.next = next;
+        }
+    }
+
+    private static final class Gen {
+    }
+
+    private abstract static class MainNode {
+        static final AtomicReferenceFieldUpdater<MainNode, MainNode> PREV =
+                AtomicReferenceFieldUpdater.newUpdater(MainNode.class, MainNode.class, "prev");
+
+        // While a GCAS is pending: the replaced node, or a FailedNode if the GCAS failed.
+        volatile MainNode prev;
+    }
+
+    private static final class FailedNode extends MainNode {
+        FailedNode(MainNode failed) {
+            prev = failed;
+        }
+    }
+
+    private static final class SNode {
+        final Object key;
+        final Object value;
+        final int hc;
+
+        SNode(Object key, Object value, int hc) {
+            this.key = key;
+            this.value = value;
+            this.hc = hc;
+        }
+
+        boolean matches(Object k, int h) {
+            return hc == h && key.equals(k);
+        }
+    }
+
+    // A single entry left in a node that is waiting to be compressed into its parent.
+    private static final class TNode extends MainNode {
+        final SNode entry;
+
+        TNode(SNode entry) {
+            this.entry = entry;
+        }
+    }
+
+    // Entries whose hashes collide in all 32 bits.
+    private static final class LNode extends MainNode {
+        final HashMap<Object, Object> entries;
+
+        LNode(HashMap<Object, Object> entries) {
+            this.entries = entries;
+        }
+
+        MainNode removed(Object key) {
+            HashMap<Object, Object> rest = entries.remove(key);
+            if (rest.size() > 1) {
+                return new LNode(rest);
+            }
+            Object k = rest.head()._1;
+            return new TNode(new SNode(k, rest.head()._2, hash(k)));
+        }
+    }
+
+    private static final class CNode extends MainNode {
+        final int bitmap;
+        // SNodes and INodes.
+        final Object[] array;
+        final Gen gen;
+
+        CNode(int bitmap, Object[] array, Gen gen) {
+            this.bitmap = bitmap;
+            this.array = array;
+            this.gen = gen;
+        }
+
+        CNode updatedAt(int pos, Object node, Gen ngen) {
+            Object[] copy = array.clone();
+            copy[pos] = node;
+            return new CNode(bitmap, copy, ngen);
+        }
+
+        CNode removedAt(int pos, int flag, Gen ngen) {
+            Object[] copy = new Object[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, pos);
+            System.arraycopy(array, pos + 1, copy, pos, array.length - pos - 1);
+            return new CNode(bitmap ^ flag, copy, ngen);
+        }
+
+        CNode insertedAt(int pos, int flag, Object node, Gen ngen) {
+            Object[] copy = new Object[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, pos);
+            copy[pos] = node;
+            System.arraycopy(array, pos, copy, pos + 1, array.length - pos);
+            return new CNode(bitmap | flag, copy, ngen);
+        }
+
+        // A copy of this node whose INodes belong to the new generation.
+        CNode renewed(Gen ngen, ConcurrentTrieMap<?, ?> ct) {
+            Object[] copy = new Object[array.length];
+            for (int i = 0; i < array.length; i++) {
+                Object sub = array[i];
+                copy[i] = sub instanceof INode ? ((INode) sub).copyToGen(ngen, ct) : sub;
+            }
+            return new CNode(bitmap, copy, ngen);
+        }
+
+        MainNode toContracted(int level) {
+            if (array.length == 1 && level > 0 && array[0] instanceof SNode) {
+                return new TNode((SNode) array[0]);
+            }
+            return this;
+        }
+
+        MainNode toCompressed(ConcurrentTrieMap<?, ?> ct, int level, Gen ngen) {
+            Object[] copy = new Object[array.length];
+            for (int i = 0; i < array.length; i++) {
+                Object sub = array[i];
+                if (sub instanceof INode) {
+                    INode in = (INode) sub;
+                    MainNode main = in.gcasRead(ct);
+                    copy[i] = main instanceof TNode ? ((TNode) main).entry : in;
+                } else {
+                    copy[i] = sub;
+                }
+            }
+            return new CNode(bitmap, copy, ngen).toContracted(level);
+        }
+
+        static MainNode dual(SNode x, SNode y, int level, Gen gen) {
+            if (level >= 35) {
+                return new LNode(HashMap.of(x.key, x.value, y.key, y.value));
+            }
+            int xidx = (x.hc >>> level) & MASK;
+            int yidx = (y.hc >>> level) & MASK;
+            int bitmap = (1 << xidx) | (1 << yidx);
+            if (xidx == yidx) {
+                INode sub = new INode(gen);
+                sub.main = dual(x, y, level + BITS, gen);
+                return new CNode(bitmap, new Object[] {sub}, gen);
+            }
+            return new CNode(bitmap, xidx < yidx ? new Object[] {x, y} : new Object[] {y, x}, gen);
+        }
+    }
+
+    private static final class INode {
+        static final AtomicReferenceFieldUpdater<INode, MainNode> MAIN =
+                AtomicReferenceFieldUpdater.newUpdater(INode.class, MainNode.class, "main");
+
+        volatile MainNode main;
+        final Gen gen;
+
+        INode(Gen gen) {
+            this.gen = gen;
+        }
+
+        // Generation-compare-and-swap: main nodes are only replaced while the root is still of
+        // this node's generation, so a concurrent snapshot never sees a later write.
+
+        MainNode gcasRead(ConcurrentTrieMap<?, ?> ct) {
+            MainNode m = main;
+            return m.prev == null ? m : gcasComplete(m, ct);
+        }
+
+        private MainNode gcasComplete(MainNode m, ConcurrentTrieMap<?, ?> ct) {
+            while (true) {
+                if (m == null) {
+                    return null;
+                }
+                MainNode prev = m.prev;
+                INode ctr = ct.readRoot(true);
+                if (prev == null) {
+                    return m;
+                }
+                if (prev instanceof FailedNode) {
+                    if (MAIN.compareAndSet(this, m, prev.prev)) {
+                        return prev.prev;
+                    }
+                    m = main;
+                } else if (ctr.gen == gen && !ct.readOnly) {
+                    if (MainNode.PREV.compareAndSet(m, prev, null)) {
+                        return m;
+                    }
+                } else {
+                    MainNode.PREV.compareAndSet(m, prev, new FailedNode(prev));
+                    m = main;
+                }
+            }
+        }
+
+        boolean gcas(MainNode old, MainNode next, ConcurrentTrieMap<?, ?> ct) {
+            next.prev = old;
+            if (MAIN.compareAndSet(this, old, next)) {
+                gcasComplete(next, ct);
+                return next.prev == null;
+            }
+            return false;
+        }
+
+        INode copyToGen(Gen ngen, ConcurrentTrieMap<?, ?> ct) {
+            INode copy = new INode(ngen);
+            copy.main = gcasRead(ct);
+            return copy;
+        }
+
+        Object lookup(Object key, int hc, int level, INode parent, Gen startGen,
+                ConcurrentTrieMap<?, ?> ct) {
+            MainNode m = gcasRead(ct);
+            if (m instanceof CNode) {
+                CNode cn = (CNode) m;
+                int flag = 1 << ((hc >>> level) & MASK);
+                if ((cn.bitmap & flag) == 0) {
+                    return NOT_FOUND;
+                }
+                Object sub = cn.array[Integer.bitCount(cn.bitmap & (flag - 1))];
+                if (sub instanceof INode) {
+                    INode in = (INode) sub;
+                    if (ct.readOnly || startGen == in.gen) {
+                        return in.lookup(key, hc, level + BITS, this, startGen, ct);
+                    }
+                    return gcas(cn, cn.renewed(startGen, ct), ct)
+                            ? lookup(key, hc, level, parent, startGen, ct) : RESTART;
+                }
+                SNode sn = (SNode) sub;
+                return sn.matches(key, hc) ? sn.value : NOT_FOUND;
+            }
+            if (m instanceof TNode) {
+                if (!ct.readOnly) {
+                    clean(parent, ct, level - BITS);
+                    return RESTART;
+                }
+                SNode sn = ((TNode) m).entry;
+                return sn.matches(key, hc) ? sn.value : NOT_FOUND;
+            }
+            return ((LNode) m).entries.get(key).getOrElse(NOT_FOUND);
+        }
+
+        Object insert(Object key, Object value, int hc, int level, INode parent, Gen startGen,
+                ConcurrentTrieMap<?, ?> ct) {
+            MainNode m = gcasRead(ct);
+            if (m instanceof CNode) {
+                CNode cn = (CNode) m;
+                int flag = 1 << ((hc >>> level) & MASK);
+                int pos = Integer.bitCount(cn.bitmap & (flag - 1));
+                if ((cn.bitmap & flag) == 0) {
+                    CNode renewed = cn.gen == gen ? cn : cn.renewed(gen, ct);
+                    CNode next = renewed.insertedAt(pos, flag, new SNode(key, value, hc), gen);
+                    return gcas(cn, next, ct) ? NOT_FOUND : RESTART;
+                }
+                Object sub = cn.array[pos];
+                if (sub instanceof INode) {
+                    INode in = (INode) sub;
+                    if (startGen == in.gen) {
+                        return in.insert(key, value, hc, level + BITS, this, startGen, ct);
+                    }
+                    return gcas(cn, cn.renewed(startGen, ct), ct)
+                            ? insert(key, value, hc, level, parent, startGen, ct) : RESTART;
+                }
+                SNode sn = (SNode) sub;
+                if (sn.matches(key, hc)) {
+                    CNode next = cn.updatedAt(pos, new SNode(key, value, hc), gen);
+                    return gcas(cn, next, ct) ? sn.value : RESTART;
+                }
+                CNode renewed = cn.gen == gen ? cn : cn.renewed(gen, ct);
+                INode below = new INode(gen);
+                below.main = CNode.dual(sn, new SNode(key, value, hc), level + BITS, gen);
+                return gcas(cn, renewed.updatedAt(pos, below, gen), ct) ? NOT_FOUND : RESTART;
+            }
+            if (m instanceof TNode) {
+                clean(parent, ct, level - BITS);
+                return RESTART;
+            }
+            LNode ln = (LNode) m;
+            Object previous = ln.entries.get(key).getOrElse(NOT_FOUND);
+            return gcas(ln, new LNode(ln.entries.put(key, value)), ct) ? previous : RESTART;
+        }
+
+        Object remove(Object key, int hc, int level, INode parent, Gen startGen,
+                ConcurrentTrieMap<?, ?> ct) {
+            MainNode m = gcasRead(ct);
+            if (m instanceof CNode) {
+                CNode cn = (CNode) m;
+                int flag = 1 << ((hc >>> level) & MASK);
+                if ((cn.bitmap & flag) == 0) {
+                    return NOT_FOUND;
+                }
+                int pos = Integer.bitCount(cn.bitmap & (flag - 1));
+                Object sub = cn.array[pos];
+                Object result;
+                if (sub instanceof INode) {
+                    INode in = (INode) sub;
+                    if (startGen == in.gen) {
+                        result = in.remove(key, hc, level + BITS, this, startGen, ct);
+                    } else {
+                        result = gcas(cn, cn.renewed(startGen, ct), ct)
+                                ? remove(key, hc, level, parent, startGen, ct) : RESTART;
+                    }
+                } else {
+                    SNode sn = (SNode) sub;
+                    if (!sn.matches(key, hc)) {
+                        return NOT_FOUND;
+                    }
+                    MainNode next = cn.removedAt(pos, flag, gen).toContracted(level);
+                    result = gcas(cn, next, ct) ? sn.value : RESTART;
+                }
+                if (result != NOT_FOUND && result != RESTART && parent != null) {
+                    MainNode current = gcasRead(ct);
+                    if (current instanceof TNode) {
+                        cleanParent(parent, (TNode) current, hc, level, startGen, ct);
+                    }
+                }
+                return result;
+            }
+            if (m instanceof TNode) {
+                clean(parent, ct, level - BITS);
+                return RESTART;
+            }
+            LNode ln = (LNode) m;
+            Object previous = ln.entries.get(key).getOrElse(NOT_FOUND);
+            if (previous == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            return gcas(ln, ln.removed(key), ct) ? previous : RESTART;
+        }
+
+        // Replaces this node's tomb in the parent by the entry it holds.
+        private void cleanParent(INode parent, TNode tomb, int hc, int level, Gen startGen,
+                ConcurrentTrieMap<?, ?> ct) {
+            while (true) {
+                MainNode pm = parent.gcasRead(ct);
+                if (!(pm instanceof CNode)) {
+                    return;
+                }
+                CNode cn = (CNode) pm;
+                int flag = 1 << ((hc >>> (level - BITS)) & MASK);
+                if ((cn.bitmap & flag) == 0) {
+                    return;
+                }
+                int pos = Integer.bitCount(cn.bitmap & (flag - 1));
+                if (cn.array[pos] != this) {
+                    return;
+                }
+                MainNode next = cn.updatedAt(pos, tomb.entry, gen).toContracted(level - BITS);
+                if (parent.gcas(cn, next, ct) || ct.readRoot(false).gen != startGen) {
+                    return;
+                }
+            }
+        }
+
+        private static void clean(INode node, ConcurrentTrieMap<?, ?> ct, int level) {
+            MainNode m = node.gcasRead(ct);
+            if (m instanceof CNode) {
+                node.gcas(m, ((CNode) m).toCompressed(ct, level, node.gen), ct);
+            }
+        }
+
+        void forEach(ConcurrentTrieMap<?, ?> ct, BiConsumer<Object, Object> action) {
+            MainNode m = gcasRead(ct);
+            if (m instanceof CNode) {
+                for (Object sub : ((CNode) m).array) {
+                    if (sub instanceof INode) {
+                        ((INode) sub).forEach(ct, action);
+                    } else {
+                        action.accept(((SNode) sub).key, ((SNode) sub).value);
+                    }
+                }
+            } else if (m instanceof TNode) {
+                action.accept(((TNode) m).entry.key, ((TNode) m).entry.value);
+            } else {
+                ((LNode) m).entries.forEach(action);
+            }
+        }
+    }
+}
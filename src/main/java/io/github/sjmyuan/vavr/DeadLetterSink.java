@@ -0,0 +1,333 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Passes {@code Right} and {@code Success} values through and hands failures to a background
+ * writer that appends them to a local log, so the calling thread never waits on the disk. Failures
+ * wait in a bounded lock-free queue; when it is full the sink rejects them with
+ * {@link CallRejectedException} ({@link CallRejectedException.Reason#SINK_FULL}) instead of
+ * blocking. The writer drains the queue in batches and forces the file once per interval (group
+ * commit), so at most one interval of failures is at risk in a crash.
+ *
+ * <p>Each record is framed with its length and a CRC32. {@link #recover} returns the intact
+ * records of a log, and reopening a log drops a record torn by a crash before appending to it.
+ * Failures offered while {@link #close()} runs may be lost.
+ */
+public final class DeadLetterSink<L> implements AutoCloseable {
+
+    static final int MAGIC = 0x444c5131;
+    static final int HEADER = 4;
+
+    private final FileChannel channel;
+    private final Codec<L> codec;
+    private final BoundedQueue<L> queue;
+    private final int maxBatch;
+    private final long forceIntervalNanos;
+    private final CodecOutput out;
+    private final CRC32 crc = new CRC32();
+    private final LongAdder rejected = new LongAdder();
+    private final Thread writer;
+
+    private volatile boolean closed;
+    private volatile boolean flushRequested;
+    private volatile long persisted;
+    private volatile Throwable failure;
+
+    private DeadLetterSink(FileChannel channel, Builder<L> builder) {
+        this.channel = channel;
+        this.codec = builder.codec;
+        this.queue = new BoundedQueue<>(builder.capacity);
+        this.maxBatch = builder.maxBatch;
+        this.forceIntervalNanos = builder.forceInterval.toNanos();
+        this.out = CodecOutput.to(channel);
+        this.writer = TaskRuntime.daemonThreadFactory("dead-letter-writer")
+                .newThread(this::runWriter);
+        writer.start();
+    }
+
+    public static <L> Builder<L> builder(Path path, Codec<L> codec) {
+        return new Builder<>(path, codec);
+    }
+
+    /** Reads the intact records of a log, stopping at the first torn or corrupt one. */
+    public static <L> Vector<L> recover(Path path, Codec<L> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ArrayList<L> records = new ArrayList<>();
+            scan(channel, codec, records::add);
+            return Vector.ofAll(records);
+        }
+    }
+
+    /**
+     * Returns the right value, or enqueues the left one and returns none, so a stream of results
+     * can be filtered with {@code flatMap(sink::accept)}.
+     *
+     * @throws CallRejectedException if the queue is full
+     */
+    public <R> Option<R> accept(Either<? extends L, ? extends R> value) {
+        if (value.isRight()) {
+            return Option.some(value.get());
+        }
+        reject(value.getLeft());
+        return Option.none();
+    }
+
+    /** Like {@link #accept(Either)}, converting the cause of a failure into a record. */
+    public <R> Option<R> accept(Try<? extends R> value,
+            Function<? super Throwable, ? extends L> toRecord) {
+        if (value.isSuccess()) {
+            return Option.some(value.get());
+        }
+        reject(toRecord.apply(value.getCause()));
+        return Option.none();
+    }
+
+    /** Enqueues a record, returning false when the queue is full. */
+    public boolean offer(L record) {
+        checkOpen();
+        if (queue.offer(record)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /** Blocks until every record enqueued before the call is forced to the file. */
+    public void flush() {
+        long target = queue.offered();
+        while (persisted < target) {
+            checkFailure();
+            if (!writer.isAlive()) {
+                throw new IllegalStateException("sink is closed");
+            }
+            flushRequested = true;
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, TimeUnit.MICROSECONDS.toNanos(50));
+        }
+    }
+
+    /** Records waiting in the queue. */
+    public int pending() {
+        return queue.size();
+    }
+
+    /** Records forced to the file so far. */
+    public long persisted() {
+        return persisted;
+    }
+
+    /** Records refused because the queue was full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /** Writes and forces every queued record, then closes the file. */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        checkFailure();
+    }
+
+    private void reject(L record) {
+        if (!offer(record)) {
+            throw CallRejectedException.SINK_FULL;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("sink is closed");
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        Throwable error = failure;
+        if (error != null) {
+            throw new IllegalStateException("dead-letter writer failed", error);
+        }
+    }
+
+    private void runWriter() {
+        long lastForce = System.nanoTime();
+        try {
+            while (true) {
+                boolean stopping = closed;
+                int batch = 0;
+                L record;
+                while (batch < maxBatch && (record = queue.poll()) != null) {
+                    append(record);
+                    batch++;
+                }
+                long now = System.nanoTime();
+                boolean due = now - lastForce >= forceIntervalNanos || flushRequested || stopping;
+                if (due && queue.polled() > persisted) {
+                    flushRequested = false;
+                    out.flush();
+                    channel.force(false);
+                    persisted = queue.polled();
+                    lastForce = now;
+                } else if (due) {
+                    flushRequested = false;
+                    lastForce = now;
+                }
+                if (stopping && queue.size() == 0) {
+                    return;
+                }
+                if (batch == 0) {
+                    LockSupport.parkNanos(this, forceIntervalNanos - (now - lastForce));
+                }
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+    }
+
+    private void append(L record) {
+        byte[] payload = codec.toBytes(record);
+        crc.reset();
+        crc.update(payload);
+        int checksum = (int) crc.getValue();
+        out.writeBytes(payload);
+        out.writeByte(checksum >>> 24);
+        out.writeByte(checksum >>> 16);
+        out.writeByte(checksum >>> 8);
+        out.writeByte(checksum);
+    }
+
+    // Reads the header and the intact records, returning the offset just past the last one.
+    private static <L> long scan(FileChannel channel, Codec<L> codec, Consumer<L> onRecord)
+            throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("dead-letter log larger than 2 GB: " + size + " bytes");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (size < HEADER || buffer.getInt() != MAGIC) {
+            throw new IOException("not a dead-letter log");
+        }
+        CodecInput in = CodecInput.of(buffer);
+        CRC32 crc = new CRC32();
+        long end = in.position();
+        while (in.hasRemaining()) {
+            byte[] payload;
+            int checksum;
+            try {
+                payload = in.readBytes();
+                checksum = in.readByte() << 24 | in.readByte() << 16 | in.readByte() << 8
+                        | in.readByte();
+            } catch (UncheckedIOException e) {
+                break;
+            }
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            if (onRecord != null) {
+                onRecord.accept(codec.fromBytes(payload));
+            }
+            end = in.position();
+        }
+        return end;
+    }
+
+    public static final class Builder<L> {
+        private final Path path;
+        private final Codec<L> codec;
+        private int capacity = 8192;
+        private int maxBatch = 1024;
+        private Duration forceInterval = Duration.ofMillis(10);
+
+        private Builder(Path path, Codec<L> codec) {
+            this.path = path;
+            this.codec = codec;
+        }
+
+        /** Size of the queue, a power of two. */
+        public Builder<L> capacity(int capacity) {
+            if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+                throw new IllegalArgumentException("capacity must be a power of two, at least 2");
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /** Records written between checks of the force interval. */
+        public Builder<L> maxBatch(int maxBatch) {
+            if (maxBatch < 1) {
+                throw new IllegalArgumentException("maxBatch must be at least 1");
+            }
+            this.maxBatch = maxBatch;
+            return this;
+        }
+
+        public Builder<L> forceInterval(Duration forceInterval) {
+            if (forceInterval.isNegative() || forceInterval.isZero()) {
+                throw new IllegalArgumentException("forceInterval must be positive");
+            }
+            this.forceInterval = forceInterval;
+            return this;
+        }
+
+        /**
+         * Opens or creates the log and starts the writer. A record torn by a crash at the end of an
+         * existing log is truncated away.
+         */
+        public DeadLetterSink<L> build() throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                if (channel.size() == 0) {
+                    channel.write(ByteBuffer.allocate(HEADER).putInt(0, MAGIC));
+                } else {
+                    long end = scan(channel, codec, null);
+                    channel.truncate(end);
+                    channel.position(end);
+                }
+                return new DeadLetterSink<>(channel, this);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+}
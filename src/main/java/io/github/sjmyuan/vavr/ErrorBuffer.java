@@ -0,0 +1,90 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import java.util.Arrays;
+
+/**
+ * Errors found by a {@link RecordValidator}, packed as one {@code long} per error (record index in
+ * the high half, rule index in the low half) and kept sorted by record, then rule.
+ */
+public final class ErrorBuffer {
+
+    private final String[] messages;
+    private long[] entries;
+    private int size;
+
+    ErrorBuffer(String[] messages) {
+        this.messages = messages;
+        this.entries = new long[16];
+    }
+
+    void add(int record, int rule) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = ((long) record << 32) | rule;
+    }
+
+    void addAll(ErrorBuffer other) {
+        if (size + other.size > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(size + other.size, size * 2));
+        }
+        System.arraycopy(other.entries, 0, entries, size, other.size);
+        size += other.size;
+    }
+
+    void sort() {
+        Arrays.sort(entries, 0, size);
+    }
+
+    public int errorCount() {
+        return size;
+    }
+
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    public boolean isValid(int record) {
+        return firstEntry(record) < 0;
+    }
+
+    public int invalidRecordCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || record(entries[i]) != record(entries[i - 1])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Seq<String> errorsFor(int record) {
+        int first = firstEntry(record);
+        if (first < 0) {
+            return Vector.empty();
+        }
+        Vector<String> errors = Vector.empty();
+        for (int i = first; i < size && record(entries[i]) == record; i++) {
+            errors = errors.append(messages[rule(entries[i])]);
+        }
+        return errors;
+    }
+
+    private int firstEntry(int record) {
+        int index = Arrays.binarySearch(entries, 0, size, (long) record << 32);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < size && record(entries[index]) == record ? index : -1;
+    }
+
+    private static int record(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int rule(long entry) {
+        return (int) entry;
+    }
+}
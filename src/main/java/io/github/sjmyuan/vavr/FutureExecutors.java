@@ -0,0 +1,55 @@
+package io.github.sjmyuan.vavr;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors to plug into {@code io.vavr.concurrent.Future}/{@code Promise} in place of the default
+ * pool.
+ */
+public final class FutureExecutors {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private FutureExecutors() {
+    }
+
+    /**
+     * Runs every job on the calling thread. Meant for cheap {@code map} stages and fan-in
+     * callbacks, never for blocking work.
+     */
+    public static Executor direct() {
+        return DIRECT;
+    }
+
+    public static ExecutorService workStealing() {
+        return Executors.newWorkStealingPool();
+    }
+
+    public static ExecutorService workStealing(int parallelism) {
+        return Executors.newWorkStealingPool(parallelism);
+    }
+
+    /**
+     * One virtual thread per job on Java 21+, a cached pool of daemon threads on older JVMs.
+     */
+    public static ExecutorService virtualThreads() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(TaskRuntime.daemonThreadFactory("virtual-fallback"));
+        }
+    }
+
+    public static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
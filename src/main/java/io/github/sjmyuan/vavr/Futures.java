@@ -0,0 +1,69 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fan-in of many {@link Future}s. Unlike {@code Future.sequence}, which chains one
+ * {@code flatMap}/{@code map} stage (and so one intermediate future) per element, every input only
+ * gets a completion callback that stores its value into a shared array and counts down.
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    public static <T> Future<Seq<T>> sequence(Iterable<? extends Future<? extends T>> futures) {
+        return sequence(FutureExecutors.direct(), futures);
+    }
+
+    public static <T> Future<Seq<T>> sequence(Executor executor,
+            Iterable<? extends Future<? extends T>> futures) {
+        ArrayList<Future<? extends T>> inputs = new ArrayList<>();
+        futures.forEach(inputs::add);
+        Promise<Seq<T>> promise = Promise.make(executor);
+        if (inputs.isEmpty()) {
+            promise.success(Vector.empty());
+            return promise.future();
+        }
+        Object[] results = new Object[inputs.size()];
+        AtomicInteger remaining = new AtomicInteger(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            int index = i;
+            inputs.get(i).onComplete(result -> {
+                if (result.isFailure()) {
+                    promise.tryFailure(result.getCause());
+                    return;
+                }
+                results[index] = result.get();
+                if (remaining.decrementAndGet() == 0) {
+                    @SuppressWarnings("unchecked")
+                    Seq<T> values = (Seq<T>) Vector.ofAll(Arrays.asList(results));
+                    promise.trySuccess(values);
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    public static <T, U> Future<Seq<U>> traverse(Iterable<? extends T> values,
+            Function<? super T, ? extends Future<? extends U>> mapper) {
+        return traverse(FutureExecutors.direct(), values, mapper);
+    }
+
+    public static <T, U> Future<Seq<U>> traverse(Executor executor, Iterable<? extends T> values,
+            Function<? super T, ? extends Future<? extends U>> mapper) {
+        ArrayList<Future<? extends U>> futures = new ArrayList<>();
+        for (T value : values) {
+            futures.add(mapper.apply(value));
+        }
+        return sequence(executor, futures);
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sequence of unboxed ints. Elements live in full {@code int[]} chunks shared between
+ * versions plus a small tail that is copied on append.
+ */
+public final class IntList {
+
+    static final int CHUNK_SIZE = 32;
+
+    private static final int[] EMPTY_TAIL = new int[0];
+
+    private static final IntList EMPTY = new IntList(Vector.empty(), EMPTY_TAIL);
+
+    private final Vector<int[]> chunks;
+    private final int[] tail;
+
+    private IntList(Vector<int[]> chunks, int[] tail) {
+        this.chunks = chunks;
+        this.tail = tail;
+    }
+
+    public static IntList empty() {
+        return EMPTY;
+    }
+
+    public static IntList of(int... values) {
+        Builder builder = new Builder();
+        for (int value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public static IntList ofAll(IntStream stream) {
+        Builder builder = new Builder();
+        stream.forEachOrdered(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return chunks.size() * CHUNK_SIZE + tail.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("get(" + index + ") on IntList of size " + size());
+        }
+        int tailOffset = chunks.size() * CHUNK_SIZE;
+        if (index >= tailOffset) {
+            return tail[index - tailOffset];
+        }
+        return chunks.get(index / CHUNK_SIZE)[index % CHUNK_SIZE];
+    }
+
+    public IntList append(int value) {
+        if (tail.length < CHUNK_SIZE) {
+            int[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new IntList(chunks, newTail);
+        }
+        return new IntList(chunks.append(tail), new int[] {value});
+    }
+
+    public IntList filter(IntPredicate predicate) {
+        Builder builder = new Builder();
+        for (int[] chunk : chunks) {
+            for (int value : chunk) {
+                if (predicate.test(value)) {
+                    builder.add(value);
+                }
+            }
+        }
+        for (int value : tail) {
+            if (predicate.test(value)) {
+                builder.add(value);
+            }
+        }
+        return builder.build();
+    }
+
+    public IntList map(IntUnaryOperator mapper) {
+        return new IntList(chunks.map(chunk -> mapChunk(chunk, mapper)), mapChunk(tail, mapper));
+    }
+
+    public int foldLeft(int zero, IntBinaryOperator f) {
+        int acc = zero;
+        for (int[] chunk : chunks) {
+            for (int value : chunk) {
+                acc = f.applyAsInt(acc, value);
+            }
+        }
+        for (int value : tail) {
+            acc = f.applyAsInt(acc, value);
+        }
+        return acc;
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+            private final int size = size();
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("next() on empty iterator");
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int offset = 0;
+        for (int[] chunk : chunks) {
+            System.arraycopy(chunk, 0, result, offset, CHUNK_SIZE);
+            offset += CHUNK_SIZE;
+        }
+        System.arraycopy(tail, 0, result, offset, tail.length);
+        return result;
+    }
+
+    public List<Integer> toList() {
+        return List.ofAll(toArray());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof IntList)) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((IntList) other).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return foldLeft(1, (acc, value) -> 31 * acc + value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("IntList(");
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            builder.append(it.nextInt());
+            if (it.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append(")").toString();
+    }
+
+    private static int[] mapChunk(int[] chunk, IntUnaryOperator mapper) {
+        int[] result = new int[chunk.length];
+        for (int i = 0; i < chunk.length; i++) {
+            result[i] = mapper.applyAsInt(chunk[i]);
+        }
+        return result;
+    }
+
+    static final class Builder {
+        private Vector<int[]> chunks = Vector.empty();
+        private int[] buffer = new int[CHUNK_SIZE];
+        private int count = 0;
+
+        void add(int value) {
+            if (count == CHUNK_SIZE) {
+                chunks = chunks.append(buffer);
+                buffer = new int[CHUNK_SIZE];
+                count = 0;
+            }
+            buffer[count++] = value;
+        }
+
+        IntList build() {
+            if (chunks.isEmpty() && count == 0) {
+                return EMPTY;
+            }
+            return new IntList(chunks, Arrays.copyOf(buffer, count));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function2;
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A column of {@code Option<Integer>} cells kept as an {@code int[]} and a validity bitmap, so a
+ * million cells cost about 4 MB instead of a {@code Some} and an {@code Integer} each. Operations
+ * mirror those of {@link Option} and apply to every cell; undefined cells are skipped and stay
+ * undefined. Columns are immutable.
+ */
+public final class IntOptionColumn {
+
+    private final int[] values;
+    // Undefined cells always hold 0, so equal columns have equal arrays.
+    private final long[] defined;
+
+    private IntOptionColumn(int[] values, long[] defined) {
+        this.values = values;
+        this.defined = defined;
+    }
+
+    /** A {@code Some(null)} cannot be stored unboxed and becomes an undefined cell. */
+    public static IntOptionColumn ofAll(Iterable<? extends Option<Integer>> cells) {
+        IntArrayBuilder builder = new IntArrayBuilder();
+        for (Option<Integer> cell : cells) {
+            builder.add(cell.getOrNull());
+        }
+        return builder.build();
+    }
+
+    /** Null elements become undefined cells, as with {@link Option#of}. */
+    public static IntOptionColumn ofNullable(Iterable<Integer> values) {
+        IntArrayBuilder builder = new IntArrayBuilder();
+        for (Integer value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    /** As with {@link #ofAll}, a {@code Some(null)} becomes an undefined cell. */
+    public static IntOptionColumn tabulate(int size, IntFunction<? extends Option<Integer>> f) {
+        int[] values = new int[size];
+        long[] defined = Bitmaps.create(size);
+        for (int i = 0; i < size; i++) {
+            Integer value = f.apply(i).getOrNull();
+            if (value != null) {
+                values[i] = value;
+                Bitmaps.set(defined, i);
+            }
+        }
+        return new IntOptionColumn(values, defined);
+    }
+
+    /**
+     * Lifts a function that may throw to one over columns: a cell is defined when both inputs are
+     * and the function returns normally, like {@link Function2#lift} applied cell by cell. A null
+     * result becomes an undefined cell.
+     */
+    public static Function2<IntOptionColumn, IntOptionColumn, IntOptionColumn> lift(
+            Function2<Integer, Integer, Integer> f) {
+        return (a, b) -> a.zipWith(b, (x, y) -> {
+            try {
+                return Option.some(f.apply(x, y));
+            } catch (RuntimeException e) {
+                return Option.none();
+            }
+        });
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isDefined(int index) {
+        return Bitmaps.get(defined, index);
+    }
+
+    public Option<Integer> get(int index) {
+        return isDefined(index) ? Option.some(values[index]) : Option.none();
+    }
+
+    /** The value of a defined cell; 0 for an undefined one. */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    public int countDefined() {
+        return Bitmaps.cardinality(defined);
+    }
+
+    public IntOptionColumn map(IntUnaryOperator f) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i)) {
+                result[i] = f.applyAsInt(values[i]);
+            }
+        }
+        return new IntOptionColumn(result, defined);
+    }
+
+    public IntOptionColumn flatMap(IntFunction<? extends Option<Integer>> f) {
+        int[] result = new int[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i)) {
+                Integer value = f.apply(values[i]).getOrNull();
+                if (value != null) {
+                    result[i] = value;
+                    Bitmaps.set(resultDefined, i);
+                }
+            }
+        }
+        return new IntOptionColumn(result, resultDefined);
+    }
+
+    public IntOptionColumn filter(IntPredicate predicate) {
+        int[] result = new int[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i) && predicate.test(values[i])) {
+                result[i] = values[i];
+                Bitmaps.set(resultDefined, i);
+            }
+        }
+        return new IntOptionColumn(result, resultDefined);
+    }
+
+    public int[] getOrElse(int other) {
+        int[] result = values.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (!Bitmaps.get(defined, i)) {
+                result[i] = other;
+            }
+        }
+        return result;
+    }
+
+    public int[] fold(int ifNone, IntUnaryOperator f) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Bitmaps.get(defined, i) ? f.applyAsInt(values[i]) : ifNone;
+        }
+        return result;
+    }
+
+    /** Folds the defined values, skipping undefined cells. */
+    public int foldLeft(int zero, IntBinaryOperator f) {
+        int acc = zero;
+        for (int w = 0; w < defined.length; w++) {
+            long word = defined[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                acc = f.applyAsInt(acc, values[i]);
+                word &= word - 1;
+            }
+        }
+        return acc;
+    }
+
+    /** Combines cells pairwise; a cell is defined when both inputs and the result are. */
+    public IntOptionColumn zipWith(IntOptionColumn other,
+            Function2<Integer, Integer, ? extends Option<Integer>> f) {
+        checkSize(other);
+        long[] both = Bitmaps.and(defined, other.defined);
+        int[] result = new int[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(both, i)) {
+                Integer value = f.apply(values[i], other.values[i]).getOrNull();
+                if (value != null) {
+                    result[i] = value;
+                    Bitmaps.set(resultDefined, i);
+                }
+            }
+        }
+        return new IntOptionColumn(result, resultDefined);
+    }
+
+    /**
+     * Combines cells with a partial primitive function: cells where {@code isDefinedAt} rejects the
+     * inputs become undefined without {@code f} being called, so nothing is thrown or boxed.
+     */
+    public IntOptionColumn zipWith(IntOptionColumn other, IntBinaryOperator f,
+            IntBinaryPredicate isDefinedAt) {
+        checkSize(other);
+        int[] result = new int[values.length];
+        long[] resultDefined = Bitmaps.and(defined, other.defined);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(resultDefined, i)) {
+                int x = values[i];
+                int y = other.values[i];
+                if (isDefinedAt.test(x, y)) {
+                    result[i] = f.applyAsInt(x, y);
+                } else {
+                    resultDefined[i >>> 6] &= ~(1L << i);
+                }
+            }
+        }
+        return new IntOptionColumn(result, resultDefined);
+    }
+
+    public OptionColumn<Integer> boxed() {
+        Object[] boxed = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i)) {
+                boxed[i] = values[i];
+            }
+        }
+        return OptionColumn.wrap(boxed, defined);
+    }
+
+    public List<Option<Integer>> toList() {
+        List<Option<Integer>> result = List.empty();
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = result.prepend(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof IntOptionColumn)) {
+            return false;
+        }
+        IntOptionColumn that = (IntOptionColumn) other;
+        return Arrays.equals(values, that.values) && Arrays.equals(defined, that.defined);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(defined);
+    }
+
+    @Override
+    public String toString() {
+        return "IntOptionColumn(size=" + values.length + ", defined=" + countDefined() + ")";
+    }
+
+    private void checkSize(IntOptionColumn other) {
+        if (other.values.length != values.length) {
+            throw new IllegalArgumentException(
+                    "columns differ in size: " + values.length + " and " + other.values.length);
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntBinaryPredicate {
+        boolean test(int x, int y);
+    }
+
+    private static final class IntArrayBuilder {
+        private int[] values = new int[16];
+        private long[] defined = Bitmaps.create(16);
+        private int size;
+
+        void add(Integer value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                defined = Arrays.copyOf(defined, Bitmaps.create(size * 2).length);
+            }
+            if (value != null) {
+                values[size] = value;
+                Bitmaps.set(defined, size);
+            }
+            size++;
+        }
+
+        IntOptionColumn build() {
+            return new IntOptionColumn(Arrays.copyOf(values, size),
+                    Arrays.copyOf(defined, Bitmaps.create(size).length));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import java.util.ArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy view over an {@link Iterable}. {@code filter}, {@code map} and {@code flatMap} only
+ * describe the work; a terminal operation pushes every source element through all operators in a
+ * single pass, without building an intermediate collection per step.
+ */
+public abstract class LazySeq<T> {
+
+    private LazySeq() {
+    }
+
+    /**
+     * Receives the elements of a pass; returning {@code false} stops the pass.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+        boolean accept(T value);
+    }
+
+    /**
+     * Returns {@code false} if the sink stopped the pass early. A stage that ends its own input,
+     * like {@code take}, still returns {@code true}: the sink did not stop it.
+     */
+    abstract boolean run(Sink<? super T> sink);
+
+    public static <T> LazySeq<T> of(Iterable<? extends T> source) {
+        return new LazySeq<T>() {
+            @Override
+            boolean run(Sink<? super T> sink) {
+                for (T value : source) {
+                    if (!sink.accept(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    public LazySeq<T> filter(Predicate<? super T> predicate) {
+        LazySeq<T> upstream = this;
+        return new LazySeq<T>() {
+            @Override
+            boolean run(Sink<? super T> sink) {
+                return upstream.run(value -> !predicate.test(value) || sink.accept(value));
+            }
+        };
+    }
+
+    public <U> LazySeq<U> map(Function<? super T, ? extends U> mapper) {
+        LazySeq<T> upstream = this;
+        return new LazySeq<U>() {
+            @Override
+            boolean run(Sink<? super U> sink) {
+                return upstream.run(value -> sink.accept(mapper.apply(value)));
+            }
+        };
+    }
+
+    public <U> LazySeq<U> flatMap(Function<? super T, ? extends Iterable<? extends U>> mapper) {
+        LazySeq<T> upstream = this;
+        return new LazySeq<U>() {
+            @Override
+            boolean run(Sink<? super U> sink) {
+                return upstream.run(value -> {
+                    for (U inner : mapper.apply(value)) {
+                        if (!sink.accept(inner)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+        };
+    }
+
+    public LazySeq<T> take(int n) {
+        LazySeq<T> upstream = this;
+        return new LazySeq<T>() {
+            @Override
+            boolean run(Sink<? super T> sink) {
+                if (n <= 0) {
+                    return true;
+                }
+                int[] remaining = {n};
+                boolean[] stopped = {false};
+                upstream.run(value -> {
+                    if (!sink.accept(value)) {
+                        stopped[0] = true;
+                        return false;
+                    }
+                    return --remaining[0] > 0;
+                });
+                return !stopped[0];
+            }
+        };
+    }
+
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> f) {
+        Object[] acc = {zero};
+        run(value -> {
+            @SuppressWarnings("unchecked")
+            U current = (U) acc[0];
+            acc[0] = f.apply(current, value);
+            return true;
+        });
+        @SuppressWarnings("unchecked")
+        U result = (U) acc[0];
+        return result;
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        run(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    public Option<T> headOption() {
+        ArrayList<T> head = new ArrayList<>(1);
+        run(value -> {
+            head.add(value);
+            return false;
+        });
+        return head.isEmpty() ? Option.none() : Option.some(head.get(0));
+    }
+
+    public int count() {
+        int[] count = {0};
+        run(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    public List<T> toList() {
+        return List.ofAll(toJavaList());
+    }
+
+    public Vector<T> toVector() {
+        return Vector.ofAll(toJavaList());
+    }
+
+    public java.util.List<T> toJavaList() {
+        ArrayList<T> result = new ArrayList<>();
+        forEach(result::add);
+        return result;
+    }
+}
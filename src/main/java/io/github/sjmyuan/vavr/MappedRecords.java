@@ -0,0 +1,223 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Iterator;
+import io.vavr.control.Either;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a file of delimited integer fields, one record per line, through a memory-mapped window.
+ * The mapped bytes are copied a chunk at a time into a reused array, where lines are split and
+ * fields parsed in place, so no {@code String} is created per line and the heap stays constant
+ * however large the file is. A line that does not parse becomes a {@code Left} with the
+ * {@link ParseError} of its first bad field.
+ *
+ * <p>The channel is closed once the last record is read, or by {@link #close()}.
+ */
+public final class MappedRecords implements Iterator<Either<ParseError, NumericRecord>>,
+        AutoCloseable {
+
+    static final long DEFAULT_WINDOW = 256L << 20;
+    static final int DEFAULT_CHUNK = 64 << 10;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private final byte separator;
+
+    private MappedByteBuffer window;
+    private long windowEnd;
+    // bytes[position, count) holds the not yet consumed input; it grows only for longer lines.
+    private byte[] bytes;
+    private int position;
+    private int count;
+    private long[] scratch = new long[8];
+    private ParseError error;
+    private int fieldEnd;
+
+    private MappedRecords(FileChannel channel, byte separator, long windowSize, int chunkSize)
+            throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        this.separator = separator;
+        this.bytes = new byte[chunkSize];
+        map(0);
+    }
+
+    public static MappedRecords open(Path path) throws IOException {
+        return open(path, ',');
+    }
+
+    public static MappedRecords open(Path path, char separator) throws IOException {
+        return open(path, separator, DEFAULT_WINDOW, DEFAULT_CHUNK);
+    }
+
+    static MappedRecords open(Path path, char separator, long windowSize, int chunkSize)
+            throws IOException {
+        if (separator > 0x7f || separator == '\n' || separator == '\r' || separator == '-'
+                || separator == '+' || Character.isDigit(separator)) {
+            throw new IllegalArgumentException("invalid separator: " + separator);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedRecords(channel, (byte) separator, windowSize, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < count) {
+            return true;
+        }
+        if (fill() > 0) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public Either<ParseError, NumericRecord> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("no more records");
+        }
+        int end = lineEnd();
+        int start = position;
+        position = end < count ? end + 1 : end;
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        return parseLine(start, end);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Index of the '\n' ending the current line, or count at the end of the file.
+    private int lineEnd() {
+        int from = position;
+        while (true) {
+            for (int i = from; i < count; i++) {
+                if (bytes[i] == '\n') {
+                    return i;
+                }
+            }
+            int scanned = count - position;
+            if (fill() == 0) {
+                return count;
+            }
+            from = position + scanned;
+        }
+    }
+
+    // Moves the unconsumed bytes to the front and appends the next chunk of the file.
+    // Returns the number of bytes added, 0 at the end of the file.
+    private int fill() {
+        if (!window.hasRemaining()) {
+            if (windowEnd == fileSize) {
+                return 0;
+            }
+            map(windowEnd);
+        }
+        int pending = count - position;
+        if (pending == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        } else if (position > 0) {
+            System.arraycopy(bytes, position, bytes, 0, pending);
+        }
+        position = 0;
+        count = pending;
+        int length = Math.min(bytes.length - count, window.remaining());
+        window.get(bytes, count, length);
+        count += length;
+        return length;
+    }
+
+    private void map(long offset) {
+        try {
+            long size = Math.min(windowSize, fileSize - offset);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            windowEnd = offset + size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Either<ParseError, NumericRecord> parseLine(int start, int end) {
+        error = null;
+        int fields = 0;
+        int from = start;
+        while (true) {
+            long value = parseField(from, end);
+            if (error != null) {
+                return Parse.left(error);
+            }
+            if (fields == scratch.length) {
+                scratch = Arrays.copyOf(scratch, fields * 2);
+            }
+            scratch[fields++] = value;
+            if (fieldEnd == end) {
+                return Either.right(NumericRecord.wrap(Arrays.copyOf(scratch, fields)));
+            }
+            from = fieldEnd + 1;
+        }
+    }
+
+    // Same algorithm as Parse.longEither, reading bytes up to the next separator. Sets fieldEnd
+    // to the index of that separator, or to end.
+    private long parseField(int from, int end) {
+        int i = from;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        int digits = i;
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = negative ? Long.MIN_VALUE / 10 : -Long.MAX_VALUE / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            int digit = b - '0';
+            if (digit < 0 || digit > 9) {
+                if (b == separator) {
+                    break;
+                }
+                error = ParseError.INVALID_CHARACTER;
+                return 0;
+            }
+            if (result < multmin) {
+                error = ParseError.OVERFLOW;
+                return 0;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                error = ParseError.OVERFLOW;
+                return 0;
+            }
+            result -= digit;
+        }
+        fieldEnd = i;
+        if (i == digits) {
+            error = i == from ? ParseError.EMPTY : ParseError.INVALID_CHARACTER;
+            return 0;
+        }
+        return negative ? result : -result;
+    }
+}
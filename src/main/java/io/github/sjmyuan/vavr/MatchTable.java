@@ -0,0 +1,238 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A set of match cases compiled once. Constant cases are found through a hash lookup and
+ * {@code Some}/{@code None}/{@code Left}/{@code Right} cases through a type switch; predicate cases
+ * are only tested when they come before the best candidate found so far. The first matching case
+ * in declaration order wins, as with {@link API#Match(Object)}.
+ */
+public final class MatchTable<T, R> {
+
+    private static final int NONE = 0;
+    private static final int SOME = 1;
+    private static final int LEFT = 2;
+    private static final int RIGHT = 3;
+
+    private final Function<Object, ? extends R>[] actions;
+    private final Map<Object, Integer> constants;
+    private final Entry[][] adtCases;
+    private final Entry[] predicates;
+    private final boolean hasAdtCases;
+
+    private MatchTable(Function<Object, ? extends R>[] actions, Map<Object, Integer> constants,
+            Entry[][] adtCases, Entry[] predicates) {
+        this.actions = actions;
+        this.constants = constants;
+        this.adtCases = adtCases;
+        this.predicates = predicates;
+        boolean adt = false;
+        for (Entry[] entries : adtCases) {
+            adt |= entries.length > 0;
+        }
+        this.hasAdtCases = adt;
+    }
+
+    public static <T, R> Builder<T, R> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Applies the first matching case, throwing {@link io.vavr.MatchError} if none matches.
+     */
+    public R apply(T value) {
+        int index = find(value);
+        if (index == Integer.MAX_VALUE) {
+            // MatchError has no public constructor; an empty Match throws it for us.
+            return API.Match(value).of();
+        }
+        return actions[index].apply(value);
+    }
+
+    public Option<R> option(T value) {
+        int index = find(value);
+        return index == Integer.MAX_VALUE ? Option.none()
+                : Option.some(actions[index].apply(value));
+    }
+
+    private int find(T value) {
+        int best = Integer.MAX_VALUE;
+        if (!constants.isEmpty()) {
+            Integer index = constants.get(value);
+            if (index != null) {
+                best = index;
+            }
+        }
+        int kind = hasAdtCases ? kindOf(value) : -1;
+        if (kind >= 0) {
+            Object inner = inner(value, kind);
+            for (Entry entry : adtCases[kind]) {
+                if (entry.index >= best) {
+                    break;
+                }
+                if (entry.predicate.test(inner)) {
+                    best = entry.index;
+                    break;
+                }
+            }
+        }
+        for (Entry entry : predicates) {
+            if (entry.index >= best) {
+                break;
+            }
+            if (entry.predicate.test(value)) {
+                best = entry.index;
+                break;
+            }
+        }
+        return best;
+    }
+
+    // Checks the final implementation classes: instanceof on the Option/Either interfaces scans
+    // the secondary supertypes of the value's class and costs far more than an exact class test.
+    private static int kindOf(Object value) {
+        if (value instanceof Option.Some) {
+            return SOME;
+        }
+        if (value instanceof Option.None) {
+            return NONE;
+        }
+        if (value instanceof Either.Right) {
+            return RIGHT;
+        }
+        if (value instanceof Either.Left) {
+            return LEFT;
+        }
+        return -1;
+    }
+
+    private static Object inner(Object value, int kind) {
+        switch (kind) {
+            case SOME:
+                return ((Option<?>) value).get();
+            case LEFT:
+                return ((Either<?, ?>) value).getLeft();
+            case RIGHT:
+                return ((Either<?, ?>) value).get();
+            default:
+                return null;
+        }
+    }
+
+    private static final class Entry {
+        final int index;
+        final Predicate<Object> predicate;
+
+        Entry(int index, Predicate<Object> predicate) {
+            this.index = index;
+            this.predicate = predicate;
+        }
+    }
+
+    public static final class Builder<T, R> {
+        private final List<Function<Object, ? extends R>> actions = new ArrayList<>();
+        private final Map<Object, Integer> constants = new HashMap<>();
+        private final List<List<Entry>> adtCases = new ArrayList<>();
+        private final List<Entry> predicates = new ArrayList<>();
+
+        private Builder() {
+            for (int kind = NONE; kind <= RIGHT; kind++) {
+                adtCases.add(new ArrayList<>());
+            }
+        }
+
+        /** Same as {@code Case($(value), result)}. */
+        public Builder<T, R> constant(T value, R result) {
+            return constant(value, x -> result);
+        }
+
+        /** Same as {@code Case($(value), f)}. */
+        public Builder<T, R> constant(T value, Function<? super T, ? extends R> f) {
+            constants.putIfAbsent(value, actions.size());
+            return addAction(f);
+        }
+
+        /** Same as {@code Case($Some($()), f)}. */
+        public <U> Builder<T, R> some(Function<? super U, ? extends R> f) {
+            return some(x -> true, f);
+        }
+
+        /** Same as {@code Case($Some($(predicate)), f)}. */
+        public <U> Builder<T, R> some(Predicate<? super U> predicate,
+                Function<? super U, ? extends R> f) {
+            return adt(SOME, predicate, f);
+        }
+
+        /** Same as {@code Case($None(), result)}. */
+        public Builder<T, R> none(R result) {
+            return adt(NONE, x -> true, x -> result);
+        }
+
+        /** Same as {@code Case($Left($()), f)}. */
+        public <L> Builder<T, R> left(Function<? super L, ? extends R> f) {
+            return adt(LEFT, x -> true, f);
+        }
+
+        /** Same as {@code Case($Right($()), f)}. */
+        public <U> Builder<T, R> right(Function<? super U, ? extends R> f) {
+            return adt(RIGHT, x -> true, f);
+        }
+
+        /** Same as {@code Case($(predicate), f)}. */
+        @SuppressWarnings("unchecked")
+        public Builder<T, R> when(Predicate<? super T> predicate,
+                Function<? super T, ? extends R> f) {
+            predicates.add(new Entry(actions.size(), x -> predicate.test((T) x)));
+            return addAction(f);
+        }
+
+        /** Falls back to an opaque vavr case, tested like a predicate. */
+        public Builder<T, R> caseOf(API.Match.Case<? extends T, ? extends R> matchCase) {
+            @SuppressWarnings("unchecked")
+            API.Match.Case<Object, ? extends R> anyCase =
+                    (API.Match.Case<Object, ? extends R>) matchCase;
+            predicates.add(new Entry(actions.size(), anyCase::isDefinedAt));
+            actions.add(anyCase::apply);
+            return this;
+        }
+
+        /** Same as {@code Case($(), f)}. */
+        public Builder<T, R> otherwise(Function<? super T, ? extends R> f) {
+            return when(x -> true, f);
+        }
+
+        @SuppressWarnings("unchecked")
+        public MatchTable<T, R> build() {
+            Entry[][] adt = new Entry[adtCases.size()][];
+            for (int kind = 0; kind < adt.length; kind++) {
+                adt[kind] = adtCases.get(kind).toArray(new Entry[0]);
+            }
+            return new MatchTable<>(
+                    (Function<Object, ? extends R>[]) actions.toArray(new Function<?, ?>[0]),
+                    new HashMap<>(constants), adt, predicates.toArray(new Entry[0]));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <U> Builder<T, R> adt(int kind, Predicate<? super U> predicate,
+                Function<? super U, ? extends R> f) {
+            adtCases.get(kind).add(new Entry(actions.size(), x -> predicate.test((U) x)));
+            actions.add(x -> f.apply((U) inner(x, kind)));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Builder<T, R> addAction(Function<? super T, ? extends R> f) {
+            actions.add(x -> f.apply((T) x));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded memoization cache for {@link Function1}/{@link Function2}, as a replacement for
+ * {@code memoized()} which keeps every result forever behind a single lock. Keys are spread over
+ * independently locked LRU stripes, entries can expire after a fixed time, and hits, misses and
+ * evictions are counted with {@link LongAdder}s.
+ *
+ * <p>A missing value is computed outside the stripe lock, so two threads missing on the same key
+ * at the same time may both call the function.
+ */
+public final class Memo<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Memo(long maximumSize, int stripeCount, long ttlNanos, LongSupplier ticker) {
+        int perStripe = (int) Math.max(1, (maximumSize + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(perStripe, evictions);
+        }
+        this.ttlNanos = ttlNanos;
+        this.ticker = ticker;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        Stripe<K, V> stripe = stripeFor(key);
+        long now = ttlNanos > 0 ? ticker.getAsLong() : 0;
+        Cached<V> entry;
+        stripe.lock.lock();
+        try {
+            entry = stripe.map.get(key);
+            if (entry != null && ttlNanos > 0 && now - entry.writtenAt >= ttlNanos) {
+                stripe.map.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        V value = compute.apply(key);
+        stripe.lock.lock();
+        try {
+            stripe.map.put(key, new Cached<>(value, ttlNanos > 0 ? ticker.getAsLong() : 0));
+        } finally {
+            stripe.lock.unlock();
+        }
+        return value;
+    }
+
+    public Function1<K, V> memoize(Function1<? super K, ? extends V> f) {
+        return key -> get(key, f);
+    }
+
+    public static <T1, T2, R> Function2<T1, T2, R> memoize(Memo<Tuple2<T1, T2>, R> memo,
+            Function2<? super T1, ? super T2, ? extends R> f) {
+        return (t1, t2) -> memo.get(Tuple.of(t1, t2), key -> f.apply(key._1, key._2));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.map.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public void invalidateAll() {
+        for (Stripe<K, V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.map.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public MemoStats stats() {
+        return new MemoStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // Picks the stripe from the high bits of a scrambled hash: the stripe maps index their tables
+    // with the low bits, so reusing those would put every key of a stripe in the same few buckets.
+    private Stripe<K, V> stripeFor(K key) {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        int hash = (key == null ? 0 : key.hashCode()) * 0x9E3779B9;
+        return stripes[hash >>> (32 - Integer.numberOfTrailingZeros(stripes.length))];
+    }
+
+    private static final class Cached<V> {
+        final V value;
+        final long writtenAt;
+
+        Cached(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private static final class Stripe<K, V> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<K, Cached<V>> map;
+
+        Stripe(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<K, Cached<V>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Cached<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    public static final class Builder {
+        private long maximumSize = 10_000;
+        private int stripes = 16;
+        private long ttlNanos = 0;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /** Rounded up to a power of two. */
+        public Builder stripes(int stripes) {
+            if (stripes <= 0) {
+                throw new IllegalArgumentException("stripes must be positive");
+            }
+            int rounded = 1;
+            while (rounded < stripes) {
+                rounded <<= 1;
+            }
+            this.stripes = rounded;
+            return this;
+        }
+
+        public Builder expireAfterWrite(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+            return this;
+        }
+
+        /** Source of nanosecond timestamps, {@link System#nanoTime()} by default. */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public <K, V> Memo<K, V> build() {
+            int stripeCount = stripes;
+            while (stripeCount > 1 && stripeCount > maximumSize) {
+                stripeCount >>= 1;
+            }
+            return new Memo<>(maximumSize, stripeCount, ttlNanos, ticker);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.sjmyuan.vavr;
+
+/**
+ * Point-in-time counters of a {@link Memo}.
+ */
+public final class MemoStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    MemoStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /** Entries dropped because a stripe was full or because they expired. */
+    public long evictions() {
+        return evictions;
+    }
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoStats(hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ")";
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts the outcomes of {@code Try}/{@code Either} computations and records their latency. Every
+ * call is counted; latency is timed for one call in {@code latencySampling}, chosen at random, to
+ * keep the two {@code nanoTime} reads off most calls. Meters are usually obtained through
+ * {@link Metered}.
+ */
+public final class Meter {
+
+    private final String name;
+    private final int samplingMask;
+    private final LongAdder successes = new LongAdder();
+    private final ConcurrentHashMap<Object, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    Meter(String name, int latencySampling) {
+        if (latencySampling < 1 || Integer.bitCount(latencySampling) != 1) {
+            throw new IllegalArgumentException(
+                    "latencySampling must be a power of two: " + latencySampling);
+        }
+        this.name = name;
+        this.samplingMask = latencySampling - 1;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public <T> Try<T> tryOf(CheckedFunction0<? extends T> supplier) {
+        MeteredEvent event = new MeteredEvent();
+        event.begin();
+        boolean timed = sampled();
+        long start = timed ? System.nanoTime() : 0;
+        Try<T> result = Try.of(supplier);
+        if (timed) {
+            latency.record(System.nanoTime() - start);
+        }
+        Object key = result.isSuccess() ? null : result.getCause().getClass();
+        count(key);
+        if (event.shouldCommit()) {
+            commit(event, key);
+        }
+        return result;
+    }
+
+    public <L, R> Either<L, R> either(Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        MeteredEvent event = new MeteredEvent();
+        event.begin();
+        boolean timed = sampled();
+        long start = timed ? System.nanoTime() : 0;
+        Either<L, R> result = Either.narrow(supplier.get());
+        if (timed) {
+            latency.record(System.nanoTime() - start);
+        }
+        Object key = result.isRight() ? null : failureKey(result.getLeft());
+        count(key);
+        if (event.shouldCommit()) {
+            commit(event, key);
+        }
+        return result;
+    }
+
+    public MeterSnapshot snapshot() {
+        Map<String, Long> byType = HashMap.empty();
+        for (java.util.Map.Entry<Object, LongAdder> entry : failures.entrySet()) {
+            byType = byType.put(keyName(entry.getKey()), entry.getValue().sum());
+        }
+        return new MeterSnapshot(name, successes.sum(), byType, latency.snapshot());
+    }
+
+    public void reset() {
+        successes.reset();
+        failures.values().forEach(LongAdder::reset);
+        latency.reset();
+    }
+
+    private boolean sampled() {
+        return samplingMask == 0 || (ThreadLocalRandom.current().nextInt() & samplingMask) == 0;
+    }
+
+    // A null key is a success.
+    private void count(Object key) {
+        if (key == null) {
+            successes.increment();
+            return;
+        }
+        LongAdder counter = failures.get(key);
+        if (counter == null) {
+            counter = failures.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    // Enum lefts such as ParseError are counted per constant, other lefts per class.
+    private static Object failureKey(Object left) {
+        if (left == null) {
+            return Void.class;
+        }
+        return left instanceof Enum ? left : left.getClass();
+    }
+
+    private static String keyName(Object key) {
+        if (key instanceof Enum) {
+            Enum<?> constant = (Enum<?>) key;
+            return constant.getDeclaringClass().getName() + "." + constant.name();
+        }
+        return ((Class<?>) key).getName();
+    }
+
+    private void commit(MeteredEvent event, Object key) {
+        event.meter = name;
+        event.success = key == null;
+        event.failure = key == null ? null : keyName(key);
+        event.commit();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Map;
+
+/**
+ * Point-in-time counters and latency distribution of a {@link Meter}. Failures are keyed by
+ * exception class name for {@code Try}, and by the class name of the left value, or
+ * {@code Class.CONSTANT} for enum lefts, for {@code Either}.
+ */
+public final class MeterSnapshot {
+
+    private final String name;
+    private final long successes;
+    private final Map<String, Long> failures;
+    private final long[] latencyCounts;
+    private final long latencySamples;
+
+    MeterSnapshot(String name, long successes, Map<String, Long> failures, long[] latencyCounts) {
+        this.name = name;
+        this.successes = successes;
+        this.failures = failures;
+        this.latencyCounts = latencyCounts;
+        long samples = 0;
+        for (long count : latencyCounts) {
+            samples += count;
+        }
+        this.latencySamples = samples;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long successes() {
+        return successes;
+    }
+
+    public long failures() {
+        return failures.values().fold(0L, Long::sum);
+    }
+
+    public Map<String, Long> failuresByType() {
+        return failures;
+    }
+
+    public long count() {
+        return successes + failures();
+    }
+
+    public double failureRate() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) failures() / count;
+    }
+
+    /** Number of calls whose latency was recorded. */
+    public long latencySamples() {
+        return latencySamples;
+    }
+
+    /**
+     * The latency in nanoseconds at or below which the given fraction of the sampled calls
+     * completed, rounded up to the end of its bucket; 0 when nothing was sampled.
+     */
+    public long latencyPercentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("fraction must be in [0, 1]: " + fraction);
+        }
+        if (latencySamples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * latencySamples));
+        long seen = 0;
+        for (int i = 0; i < latencyCounts.length; i++) {
+            seen += latencyCounts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.bucketUpperBound(i);
+            }
+        }
+        return LatencyHistogram.bucketUpperBound(latencyCounts.length - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "MeterSnapshot(name=" + name + ", successes=" + successes + ", failures=" + failures
+                + ", p50=" + latencyPercentile(0.5) + "ns, p99=" + latencyPercentile(0.99) + "ns)";
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.collection.SortedMap;
+import io.vavr.collection.TreeMap;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A registry of named {@link Meter}s. {@code Metered.tryOf("name", ...)} looks the meter up on
+ * every call; hot paths should keep the {@link Meter} returned by {@link #meter(String)} instead.
+ */
+public final class Metered {
+
+    /** Latency is timed for one call in 16 unless a meter is created with its own sampling. */
+    public static final int DEFAULT_LATENCY_SAMPLING = 16;
+
+    private static final ConcurrentHashMap<String, Meter> METERS = new ConcurrentHashMap<>();
+
+    private Metered() {
+    }
+
+    public static Meter meter(String name) {
+        return meter(name, DEFAULT_LATENCY_SAMPLING);
+    }
+
+    /**
+     * Returns the meter with this name, creating it with the given latency sampling (a power of
+     * two) if it does not exist yet. An existing meter keeps its sampling.
+     */
+    public static Meter meter(String name, int latencySampling) {
+        Meter meter = METERS.get(name);
+        return meter != null ? meter
+                : METERS.computeIfAbsent(name, n -> new Meter(n, latencySampling));
+    }
+
+    public static <T> Try<T> tryOf(String name, CheckedFunction0<? extends T> supplier) {
+        return meter(name).tryOf(supplier);
+    }
+
+    public static <L, R> Either<L, R> either(String name,
+            Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        return meter(name).<L, R>either(supplier);
+    }
+
+    public static SortedMap<String, MeterSnapshot> snapshot() {
+        SortedMap<String, MeterSnapshot> snapshots = TreeMap.empty();
+        for (Meter meter : METERS.values()) {
+            snapshots = snapshots.put(meter.name(), meter.snapshot());
+        }
+        return snapshots;
+    }
+
+    public static void remove(String name) {
+        METERS.remove(name);
+    }
+}
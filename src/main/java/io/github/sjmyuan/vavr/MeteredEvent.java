@@ -0,0 +1,29 @@
+package io.github.sjmyuan.vavr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event committed by {@link Meter} for every call while a recording has it enabled.
+ */
+@Name("io.github.sjmyuan.vavr.Metered")
+@Label("Metered Call")
+@Category("vavr")
+@Description("A Try or Either computation run through a Meter")
+@StackTrace(false)
+final class MeteredEvent extends Event {
+
+    @Label("Meter")
+    String meter;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure")
+    @Description("Exception class, or class of the left value, of a failed call")
+    String failure;
+}
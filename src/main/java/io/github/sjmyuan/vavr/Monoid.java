@@ -0,0 +1,51 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import java.util.function.BinaryOperator;
+
+/**
+ * An associative {@code combine} with an identity {@code empty}.
+ */
+public interface Monoid<A> {
+
+    A empty();
+
+    A combine(A x, A y);
+
+    static <A> Monoid<A> of(A empty, BinaryOperator<A> combine) {
+        return new Monoid<A>() {
+            @Override
+            public A empty() {
+                return empty;
+            }
+
+            @Override
+            public A combine(A x, A y) {
+                return combine.apply(x, y);
+            }
+        };
+    }
+
+    static Monoid<Integer> intSum() {
+        return of(0, Integer::sum);
+    }
+
+    static Monoid<Long> longSum() {
+        return of(0L, Long::sum);
+    }
+
+    static Monoid<Integer> intMin() {
+        return of(Integer.MAX_VALUE, Math::min);
+    }
+
+    static Monoid<Integer> intMax() {
+        return of(Integer.MIN_VALUE, Math::max);
+    }
+
+    /** Combines pairs component-wise, e.g. to keep a sum and a count together. */
+    static <A, B> Monoid<Tuple2<A, B>> tuple2(Monoid<A> first, Monoid<B> second) {
+        return of(Tuple.of(first.empty(), second.empty()),
+                (x, y) -> Tuple.of(first.combine(x._1, y._1), second.combine(x._2, y._2)));
+    }
+}
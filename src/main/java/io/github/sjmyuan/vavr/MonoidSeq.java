@@ -0,0 +1,352 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Persistent sequence kept as a height-balanced (AVL) tree whose nodes cache the {@link Monoid}
+ * summary of their subtree, so the summary of the whole sequence is O(1) and the summary of any
+ * index range is O(log n). Append, prepend, update, split and concat are O(log n) and copy only
+ * the path they change; every other node is shared with the previous version.
+ *
+ * <p>Each element is measured into the monoid, e.g. {@code x -> x} for sums or {@code x -> 1}
+ * for counts; {@link Monoid#tuple2} keeps several summaries at once.
+ */
+public final class MonoidSeq<T, M> implements Iterable<T> {
+
+    private final Monoid<M> monoid;
+    private final Function<? super T, ? extends M> measure;
+    private final Node<T, M> root;
+
+    private MonoidSeq(Monoid<M> monoid, Function<? super T, ? extends M> measure,
+            Node<T, M> root) {
+        this.monoid = monoid;
+        this.measure = measure;
+        this.root = root;
+    }
+
+    public static <T, M> MonoidSeq<T, M> empty(Monoid<M> monoid,
+            Function<? super T, ? extends M> measure) {
+        return new MonoidSeq<>(monoid, measure, null);
+    }
+
+    /** A sequence summarizing its elements themselves. */
+    public static <T> MonoidSeq<T, T> empty(Monoid<T> monoid) {
+        return empty(monoid, Function.identity());
+    }
+
+    /** Builds a perfectly balanced tree in O(n). */
+    public static <T, M> MonoidSeq<T, M> ofAll(Monoid<M> monoid,
+            Function<? super T, ? extends M> measure, Iterable<? extends T> values) {
+        ArrayList<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        MonoidSeq<T, M> seq = empty(monoid, measure);
+        return seq.withRoot(seq.build(list, 0, list.size()));
+    }
+
+    public static <T> MonoidSeq<T, T> ofAll(Monoid<T> monoid, Iterable<? extends T> values) {
+        return ofAll(monoid, Function.identity(), values);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+        Node<T, M> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /** Summary of the whole sequence, in O(1). */
+    public M summary() {
+        return summary(root);
+    }
+
+    /** Summary of the elements in {@code [from, to)}, in O(log n). */
+    public M summary(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") of " + size());
+        }
+        return query(root, from, to);
+    }
+
+    public MonoidSeq<T, M> append(T value) {
+        return withRoot(join(root, value, null));
+    }
+
+    public MonoidSeq<T, M> prepend(T value) {
+        return withRoot(join(null, value, root));
+    }
+
+    /** Concatenates in O(log n); the other sequence is summarized with this one's monoid. */
+    public MonoidSeq<T, M> appendAll(MonoidSeq<T, M> other) {
+        return withRoot(concat(root, other.root));
+    }
+
+    public MonoidSeq<T, M> update(int index, T value) {
+        checkIndex(index);
+        return withRoot(update(root, index, value));
+    }
+
+    /** The first {@code index} elements and the rest. */
+    public Tuple2<MonoidSeq<T, M>, MonoidSeq<T, M>> splitAt(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("split at " + index + " of " + size());
+        }
+        Tuple2<Node<T, M>, Node<T, M>> parts = split(root, index);
+        return Tuple.of(withRoot(parts._1), withRoot(parts._2));
+    }
+
+    public MonoidSeq<T, M> take(int n) {
+        return splitAt(Math.max(0, Math.min(n, size())))._1;
+    }
+
+    public MonoidSeq<T, M> drop(int n) {
+        return splitAt(Math.max(0, Math.min(n, size())))._2;
+    }
+
+    public List<T> toList() {
+        return List.ofAll(this);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T, M>> stack = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(Node<T, M> node) {
+                for (; node != null; node = node.left) {
+                    stack.push(node);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException("next() on empty iterator");
+                }
+                Node<T, M> node = stack.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MonoidSeq)) {
+            return false;
+        }
+        MonoidSeq<?, ?> that = (MonoidSeq<?, ?>) other;
+        if (size() != that.size()) {
+            return false;
+        }
+        Iterator<?> it = that.iterator();
+        for (T value : this) {
+            if (!Objects.equals(value, it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T value : this) {
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toList().mkString("MonoidSeq(", ", ", ")");
+    }
+
+    int height() {
+        return height(root);
+    }
+
+    private static final class Node<T, M> {
+        final Node<T, M> left;
+        final T value;
+        final Node<T, M> right;
+        final int height;
+        final int size;
+        final M summary;
+
+        Node(Node<T, M> left, T value, Node<T, M> right, int height, int size, M summary) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.height = height;
+            this.size = size;
+            this.summary = summary;
+        }
+    }
+
+    private MonoidSeq<T, M> withRoot(Node<T, M> newRoot) {
+        return newRoot == root ? this : new MonoidSeq<>(monoid, measure, newRoot);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + " of " + size());
+        }
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private M summary(Node<T, M> node) {
+        return node == null ? monoid.empty() : node.summary;
+    }
+
+    private Node<T, M> node(Node<T, M> left, T value, Node<T, M> right) {
+        M summary = monoid.combine(monoid.combine(summary(left), measure.apply(value)),
+                summary(right));
+        return new Node<>(left, value, right, Math.max(height(left), height(right)) + 1,
+                size(left) + size(right) + 1, summary);
+    }
+
+    // Builds a node from subtrees whose heights differ by at most 2, rotating if needed.
+    private Node<T, M> balance(Node<T, M> left, T value, Node<T, M> right) {
+        int hl = height(left);
+        int hr = height(right);
+        if (hl > hr + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return node(left.left, left.value, node(left.right, value, right));
+            }
+            Node<T, M> pivot = left.right;
+            return node(node(left.left, left.value, pivot.left), pivot.value,
+                    node(pivot.right, value, right));
+        }
+        if (hr > hl + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return node(node(left, value, right.left), right.value, right.right);
+            }
+            Node<T, M> pivot = right.left;
+            return node(node(left, value, pivot.left), pivot.value,
+                    node(pivot.right, right.value, right.right));
+        }
+        return node(left, value, right);
+    }
+
+    // Joins two trees of any heights around a middle element; O(|height difference| + 1).
+    private Node<T, M> join(Node<T, M> left, T value, Node<T, M> right) {
+        if (height(left) > height(right) + 1) {
+            return balance(left.left, left.value, join(left.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            return balance(join(left, value, right.left), right.value, right.right);
+        }
+        return node(left, value, right);
+    }
+
+    private Node<T, M> concat(Node<T, M> left, Node<T, M> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        // The first element of the right tree becomes the middle of the join.
+        Tuple2<Node<T, M>, Node<T, M>> parts = split(right, 1);
+        return join(left, parts._1.value, parts._2);
+    }
+
+    private Tuple2<Node<T, M>, Node<T, M>> split(Node<T, M> node, int index) {
+        if (node == null) {
+            return Tuple.of(null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            Tuple2<Node<T, M>, Node<T, M>> parts = split(node.left, index);
+            return Tuple.of(parts._1, join(parts._2, node.value, node.right));
+        }
+        Tuple2<Node<T, M>, Node<T, M>> parts = split(node.right, index - leftSize - 1);
+        return Tuple.of(join(node.left, node.value, parts._1), parts._2);
+    }
+
+    private Node<T, M> update(Node<T, M> node, int index, T value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node(update(node.left, index, value), node.value, node.right);
+        }
+        if (index == leftSize) {
+            return node(node.left, value, node.right);
+        }
+        return node(node.left, node.value, update(node.right, index - leftSize - 1, value));
+    }
+
+    private M query(Node<T, M> node, int from, int to) {
+        if (node == null || from >= to) {
+            return monoid.empty();
+        }
+        if (from == 0 && to == node.size) {
+            return node.summary;
+        }
+        int leftSize = size(node.left);
+        M result = monoid.empty();
+        if (from < leftSize) {
+            result = query(node.left, from, Math.min(to, leftSize));
+        }
+        if (from <= leftSize && leftSize < to) {
+            result = monoid.combine(result, measure.apply(node.value));
+        }
+        if (to > leftSize + 1) {
+            result = monoid.combine(result,
+                    query(node.right, Math.max(0, from - leftSize - 1), to - leftSize - 1));
+        }
+        return result;
+    }
+
+    private Node<T, M> build(ArrayList<T> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return node(build(values, from, mid), values.get(mid), build(values, mid + 1, to));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.sjmyuan.vavr;
+
+import java.util.Arrays;
+
+/**
+ * The numeric fields of one input line, as read by {@link MappedRecords}.
+ */
+public final class NumericRecord {
+
+    private final long[] fields;
+
+    private NumericRecord(long[] fields) {
+        this.fields = fields;
+    }
+
+    public static NumericRecord of(long... fields) {
+        return new NumericRecord(fields.clone());
+    }
+
+    // Takes ownership of the array.
+    static NumericRecord wrap(long[] fields) {
+        return new NumericRecord(fields);
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    public long get(int index) {
+        return fields[index];
+    }
+
+    public long[] toArray() {
+        return fields.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof NumericRecord
+                && Arrays.equals(fields, ((NumericRecord) other).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fields);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("NumericRecord(");
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(fields[i]);
+        }
+        return builder.append(')').toString();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.sjmyuan.vavr;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+/**
+ * Owns the direct memory behind {@link OffHeapVector}s. Chunks are carved out of large
+ * {@link ByteBuffer#allocateDirect direct} slabs, so the heap only holds a small buffer object per
+ * chunk. Memory is never reused while the arena is open: chunks replaced by
+ * {@link OffHeapVector#update} stay allocated until {@link #close()}, which frees every slab at
+ * once and makes all vectors of the arena unusable.
+ *
+ * <p>An arena may be read from many threads, but must not be closed while it is in use.
+ */
+public final class OffHeapArena implements AutoCloseable {
+
+    static final int DEFAULT_SLAB_BYTES = 64 << 20;
+
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Freed by the garbage collector once unreachable instead.
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    private final int slabBytes;
+    private final ArrayList<ByteBuffer> slabs = new ArrayList<>();
+    private ByteBuffer current;
+    private long allocatedBytes;
+    private volatile boolean closed;
+
+    private OffHeapArena(int slabBytes) {
+        this.slabBytes = slabBytes;
+    }
+
+    public static OffHeapArena create() {
+        return create(DEFAULT_SLAB_BYTES);
+    }
+
+    public static OffHeapArena create(int slabBytes) {
+        if (slabBytes <= 0) {
+            throw new IllegalArgumentException("slabBytes must be positive: " + slabBytes);
+        }
+        return new OffHeapArena(slabBytes);
+    }
+
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    /** Bytes handed out to chunks so far. */
+    public synchronized long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /** Bytes of direct memory reserved by the slabs. */
+    public synchronized long reservedBytes() {
+        long reserved = 0;
+        for (ByteBuffer slab : slabs) {
+            reserved += slab.capacity();
+        }
+        return reserved;
+    }
+
+    synchronized ByteBuffer allocate(int bytes) {
+        checkOpen();
+        if (current == null || current.remaining() < bytes) {
+            current = ByteBuffer.allocateDirect(Math.max(bytes, slabBytes));
+            slabs.add(current);
+        }
+        ByteBuffer chunk = current.slice();
+        chunk.limit(bytes);
+        current.position(current.position() + bytes);
+        allocatedBytes += bytes;
+        return chunk.slice().order(ByteOrder.nativeOrder());
+    }
+
+    void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapArena is closed");
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (INVOKE_CLEANER != null) {
+            for (ByteBuffer slab : slabs) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, slab);
+                } catch (ReflectiveOperationException e) {
+                    break;
+                }
+            }
+        }
+        slabs.clear();
+        current = null;
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Vector;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable vector of fixed-width records stored in direct memory owned by an
+ * {@link OffHeapArena}. Records are encoded by a {@link Layout} into chunks of
+ * {@value #CHUNK_RECORDS} records; the chunks are shared between versions through a vavr
+ * {@link Vector}, so {@link #update} copies a single chunk. Only the chunk table lives on the heap.
+ */
+public final class OffHeapVector<T> implements Iterable<T> {
+
+    static final int CHUNK_SHIFT = 13;
+    static final int CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_RECORDS - 1;
+
+    /**
+     * Encodes records of a fixed number of bytes.
+     */
+    public interface Layout<T> {
+        Layout<Long> LONG = of(Long.BYTES, ByteBuffer::getLong, ByteBuffer::putLong);
+        Layout<Integer> INT = of(Integer.BYTES, ByteBuffer::getInt, ByteBuffer::putInt);
+        Layout<Double> DOUBLE = of(Double.BYTES, ByteBuffer::getDouble, ByteBuffer::putDouble);
+
+        int width();
+
+        T read(ByteBuffer buffer, int offset);
+
+        void write(ByteBuffer buffer, int offset, T value);
+
+        static <T> Layout<T> of(int width, Reader<T> reader, Writer<T> writer) {
+            return new Layout<T>() {
+                @Override
+                public int width() {
+                    return width;
+                }
+
+                @Override
+                public T read(ByteBuffer buffer, int offset) {
+                    return reader.read(buffer, offset);
+                }
+
+                @Override
+                public void write(ByteBuffer buffer, int offset, T value) {
+                    writer.write(buffer, offset, value);
+                }
+            };
+        }
+
+        @FunctionalInterface
+        interface Reader<T> {
+            T read(ByteBuffer buffer, int offset);
+        }
+
+        @FunctionalInterface
+        interface Writer<T> {
+            void write(ByteBuffer buffer, int offset, T value);
+        }
+    }
+
+    private final OffHeapArena arena;
+    private final Layout<T> layout;
+    private final Vector<ByteBuffer> chunks;
+    private final int size;
+
+    private OffHeapVector(OffHeapArena arena, Layout<T> layout, Vector<ByteBuffer> chunks,
+            int size) {
+        this.arena = arena;
+        this.layout = layout;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static <T> OffHeapVector<T> empty(OffHeapArena arena, Layout<T> layout) {
+        return new OffHeapVector<>(arena, layout, Vector.empty(), 0);
+    }
+
+    public static <T> OffHeapVector<T> ofAll(OffHeapArena arena, Layout<T> layout,
+            Iterable<? extends T> values) {
+        Builder<T> builder = builder(arena, layout);
+        for (T value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public static <T> OffHeapVector<T> tabulate(OffHeapArena arena, Layout<T> layout, int size,
+            IntFunction<? extends T> f) {
+        Builder<T> builder = builder(arena, layout);
+        for (int i = 0; i < size; i++) {
+            builder.add(f.apply(i));
+        }
+        return builder.build();
+    }
+
+    public static <T> Builder<T> builder(OffHeapArena arena, Layout<T> layout) {
+        return new Builder<>(arena, layout);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+        arena.checkOpen();
+        ByteBuffer chunk = chunks.get(index >>> CHUNK_SHIFT);
+        return layout.read(chunk, (index & CHUNK_MASK) * layout.width());
+    }
+
+    /** Returns a vector sharing every chunk with this one except the chunk holding the index. */
+    public OffHeapVector<T> update(int index, T value) {
+        checkIndex(index);
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        ByteBuffer source = chunks.get(chunkIndex);
+        ByteBuffer copy = arena.allocate(source.capacity());
+        copy.put(source.duplicate().clear()).clear();
+        layout.write(copy, (index & CHUNK_MASK) * layout.width(), value);
+        return new OffHeapVector<>(arena, layout, chunks.update(chunkIndex, copy), size);
+    }
+
+    public <U> OffHeapVector<U> map(Layout<U> target, Function<? super T, ? extends U> mapper) {
+        return map(arena, target, mapper);
+    }
+
+    public <U> OffHeapVector<U> map(OffHeapArena targetArena, Layout<U> target,
+            Function<? super T, ? extends U> mapper) {
+        Builder<U> builder = builder(targetArena, target);
+        for (T value : this) {
+            builder.add(mapper.apply(value));
+        }
+        return builder.build();
+    }
+
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> f) {
+        U acc = zero;
+        for (T value : this) {
+            acc = f.apply(acc, value);
+        }
+        return acc;
+    }
+
+    public Vector<T> toVector() {
+        return Vector.ofAll(this);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        arena.checkOpen();
+        int width = layout.width();
+        Iterator<ByteBuffer> chunkIterator = chunks.iterator();
+        return new Iterator<T>() {
+            private ByteBuffer chunk;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException("next() on empty iterator");
+                }
+                int offset = index & CHUNK_MASK;
+                if (offset == 0) {
+                    arena.checkOpen();
+                    chunk = chunkIterator.next();
+                }
+                index++;
+                return layout.read(chunk, offset * width);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toVector().mkString("OffHeapVector(", ", ", ")");
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "index " + index + " on OffHeapVector of size " + size);
+        }
+    }
+
+    public static final class Builder<T> {
+        private final OffHeapArena arena;
+        private final Layout<T> layout;
+        private Vector<ByteBuffer> chunks = Vector.empty();
+        private ByteBuffer chunk;
+        private int size;
+
+        private Builder(OffHeapArena arena, Layout<T> layout) {
+            this.arena = arena;
+            this.layout = layout;
+        }
+
+        public Builder<T> add(T value) {
+            int offset = size & CHUNK_MASK;
+            if (offset == 0) {
+                chunk = arena.allocate(CHUNK_RECORDS * layout.width());
+                chunks = chunks.append(chunk);
+            }
+            layout.write(chunk, offset * layout.width(), value);
+            size++;
+            return this;
+        }
+
+        public OffHeapVector<T> build() {
+            return new OffHeapVector<>(arena, layout, chunks, size);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function2;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A column of {@code Option<T>} cells kept as an {@code Object[]} and a validity bitmap, so no
+ * {@code Some} or {@code None} is allocated per cell. Operations mirror those of {@link Option}
+ * and apply to every cell; as with {@code Option}, a defined cell may hold {@code null}. For
+ * integers, {@link IntOptionColumn} stores the values unboxed.
+ */
+public final class OptionColumn<T> {
+
+    private final Object[] values;
+    // Undefined cells always hold null, so equal columns have equal arrays.
+    private final long[] defined;
+
+    private OptionColumn(Object[] values, long[] defined) {
+        this.values = values;
+        this.defined = defined;
+    }
+
+    static <T> OptionColumn<T> wrap(Object[] values, long[] defined) {
+        return new OptionColumn<>(values, defined);
+    }
+
+    public static <T> OptionColumn<T> ofAll(Iterable<? extends Option<? extends T>> cells) {
+        ArrayList<Option<? extends T>> list = new ArrayList<>();
+        cells.forEach(list::add);
+        Object[] values = new Object[list.size()];
+        long[] defined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            Option<? extends T> cell = list.get(i);
+            if (cell.isDefined()) {
+                values[i] = cell.get();
+                Bitmaps.set(defined, i);
+            }
+        }
+        return new OptionColumn<>(values, defined);
+    }
+
+    /** Null elements become undefined cells, as with {@link Option#of}. */
+    public static <T> OptionColumn<T> ofNullable(Iterable<? extends T> values) {
+        ArrayList<T> list = new ArrayList<>();
+        values.forEach(list::add);
+        Object[] array = list.toArray();
+        long[] defined = Bitmaps.create(array.length);
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] != null) {
+                Bitmaps.set(defined, i);
+            }
+        }
+        return new OptionColumn<>(array, defined);
+    }
+
+    /**
+     * Lifts a function that may throw to one over columns: a cell is defined when both inputs are
+     * and the function returns normally, like {@link Function2#lift} applied cell by cell.
+     */
+    public static <T1, T2, R> Function2<OptionColumn<T1>, OptionColumn<T2>, OptionColumn<R>> lift(
+            Function2<? super T1, ? super T2, ? extends R> f) {
+        return (a, b) -> a.zipWith(b, (x, y) -> {
+            try {
+                return Option.some(f.apply(x, y));
+            } catch (RuntimeException e) {
+                return Option.none();
+            }
+        });
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isDefined(int index) {
+        return Bitmaps.get(defined, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        return isDefined(index) ? Option.some((T) values[index]) : Option.none();
+    }
+
+    public int countDefined() {
+        return Bitmaps.cardinality(defined);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> OptionColumn<U> map(Function<? super T, ? extends U> f) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i)) {
+                result[i] = f.apply((T) values[i]);
+            }
+        }
+        return new OptionColumn<>(result, defined);
+    }
+
+    /** Maps to an unboxed column; the function must not return {@code null}. */
+    @SuppressWarnings("unchecked")
+    public IntOptionColumn mapToInt(ToIntFunction<? super T> f) {
+        return IntOptionColumn.tabulate(values.length, i -> Bitmaps.get(defined, i)
+                ? Option.some(f.applyAsInt((T) values[i])) : Option.none());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> OptionColumn<U> flatMap(Function<? super T, ? extends Option<? extends U>> f) {
+        Object[] result = new Object[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i)) {
+                Option<? extends U> cell = f.apply((T) values[i]);
+                if (cell.isDefined()) {
+                    result[i] = cell.get();
+                    Bitmaps.set(resultDefined, i);
+                }
+            }
+        }
+        return new OptionColumn<>(result, resultDefined);
+    }
+
+    @SuppressWarnings("unchecked")
+    public OptionColumn<T> filter(Predicate<? super T> predicate) {
+        Object[] result = new Object[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(defined, i) && predicate.test((T) values[i])) {
+                result[i] = values[i];
+                Bitmaps.set(resultDefined, i);
+            }
+        }
+        return new OptionColumn<>(result, resultDefined);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Vector<T> getOrElse(T other) {
+        Object[] result = values.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (!Bitmaps.get(defined, i)) {
+                result[i] = other;
+            }
+        }
+        return Vector.of((T[]) result);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> Vector<U> fold(Supplier<? extends U> ifNone, Function<? super T, ? extends U> f) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Bitmaps.get(defined, i) ? f.apply((T) values[i]) : ifNone.get();
+        }
+        return Vector.of((U[]) result);
+    }
+
+    /** Folds the defined values, skipping undefined cells. */
+    @SuppressWarnings("unchecked")
+    public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> f) {
+        U acc = zero;
+        for (int w = 0; w < defined.length; w++) {
+            long word = defined[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                acc = f.apply(acc, (T) values[i]);
+                word &= word - 1;
+            }
+        }
+        return acc;
+    }
+
+    /** Combines cells pairwise; a cell is defined when both inputs and the result are. */
+    @SuppressWarnings("unchecked")
+    public <U, R> OptionColumn<R> zipWith(OptionColumn<U> other,
+            BiFunction<? super T, ? super U, ? extends Option<? extends R>> f) {
+        if (other.values.length != values.length) {
+            throw new IllegalArgumentException(
+                    "columns differ in size: " + values.length + " and " + other.values.length);
+        }
+        long[] both = Bitmaps.and(defined, other.defined);
+        Object[] result = new Object[values.length];
+        long[] resultDefined = Bitmaps.create(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (Bitmaps.get(both, i)) {
+                Option<? extends R> cell = f.apply((T) values[i], (U) other.values[i]);
+                if (cell.isDefined()) {
+                    result[i] = cell.get();
+                    Bitmaps.set(resultDefined, i);
+                }
+            }
+        }
+        return new OptionColumn<>(result, resultDefined);
+    }
+
+    public List<Option<T>> toList() {
+        List<Option<T>> result = List.empty();
+        for (int i = values.length - 1; i >= 0; i--) {
+            result = result.prepend(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OptionColumn)) {
+            return false;
+        }
+        OptionColumn<?> that = (OptionColumn<?>) other;
+        return Arrays.equals(values, that.values) && Arrays.equals(defined, that.defined);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(defined);
+    }
+
+    @Override
+    public String toString() {
+        return "OptionColumn(size=" + values.length + ", defined=" + countDefined() + ")";
+    }
+}
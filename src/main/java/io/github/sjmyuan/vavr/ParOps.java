@@ -0,0 +1,136 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Vector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Order-preserving parallel fold, map and filter over a {@link Vector}. The vector is cut into
+ * fixed-size slices which are processed as fork/join leaves and merged left to right.
+ */
+public final class ParOps {
+
+    static final int LEAF_SIZE = 4096;
+
+    private ParOps() {
+    }
+
+    public static <A> A foldMap(Vector<A> seq, Monoid<A> monoid) {
+        return foldMap(ForkJoinPool.commonPool(), seq, Function.identity(), monoid);
+    }
+
+    public static <T, A> A foldMap(Vector<T> seq, Function<? super T, ? extends A> f,
+            Monoid<A> monoid) {
+        return foldMap(ForkJoinPool.commonPool(), seq, f, monoid);
+    }
+
+    public static <T, A> A foldMap(ForkJoinPool pool, Vector<T> seq,
+            Function<? super T, ? extends A> f, Monoid<A> monoid) {
+        Object[] partials = new Object[leafCount(seq.size())];
+        forEachLeaf(pool, seq.size(), leaf -> {
+            A acc = monoid.empty();
+            for (T value : slice(seq, leaf)) {
+                acc = monoid.combine(acc, f.apply(value));
+            }
+            partials[leaf] = acc;
+        });
+        A result = monoid.empty();
+        for (Object partial : partials) {
+            @SuppressWarnings("unchecked")
+            A value = (A) partial;
+            result = monoid.combine(result, value);
+        }
+        return result;
+    }
+
+    public static <T, U> Vector<U> map(Vector<T> seq, Function<? super T, ? extends U> f) {
+        return map(ForkJoinPool.commonPool(), seq, f);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U> Vector<U> map(ForkJoinPool pool, Vector<T> seq,
+            Function<? super T, ? extends U> f) {
+        Object[] result = new Object[seq.size()];
+        forEachLeaf(pool, seq.size(), leaf -> {
+            int index = leaf * LEAF_SIZE;
+            for (T value : slice(seq, leaf)) {
+                result[index++] = f.apply(value);
+            }
+        });
+        return (Vector<U>) Vector.ofAll(Arrays.asList(result));
+    }
+
+    public static <T> Vector<T> filter(Vector<T> seq, Predicate<? super T> predicate) {
+        return filter(ForkJoinPool.commonPool(), seq, predicate);
+    }
+
+    public static <T> Vector<T> filter(ForkJoinPool pool, Vector<T> seq,
+            Predicate<? super T> predicate) {
+        @SuppressWarnings("unchecked")
+        ArrayList<T>[] partials = (ArrayList<T>[]) new ArrayList<?>[leafCount(seq.size())];
+        forEachLeaf(pool, seq.size(), leaf -> {
+            ArrayList<T> kept = new ArrayList<>();
+            for (T value : slice(seq, leaf)) {
+                if (predicate.test(value)) {
+                    kept.add(value);
+                }
+            }
+            partials[leaf] = kept;
+        });
+        ArrayList<T> result = new ArrayList<>();
+        for (ArrayList<T> partial : partials) {
+            result.addAll(partial);
+        }
+        return Vector.ofAll(result);
+    }
+
+    private static int leafCount(int size) {
+        return (size + LEAF_SIZE - 1) / LEAF_SIZE;
+    }
+
+    private static <T> Vector<T> slice(Vector<T> seq, int leaf) {
+        int from = leaf * LEAF_SIZE;
+        return seq.slice(from, Math.min(seq.size(), from + LEAF_SIZE));
+    }
+
+    private static void forEachLeaf(ForkJoinPool pool, int size, IntConsumer leafBody) {
+        int leaves = leafCount(size);
+        if (leaves == 0) {
+            return;
+        }
+        if (leaves == 1) {
+            leafBody.accept(0);
+            return;
+        }
+        pool.invoke(new LeafRange(0, leaves, leafBody));
+    }
+
+    private static final class LeafRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer leafBody;
+
+        LeafRange(int from, int to, IntConsumer leafBody) {
+            this.from = from;
+            this.to = to;
+            this.leafBody = leafBody;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                leafBody.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LeafRange(from, mid, leafBody), new LeafRange(mid, to, leafBody));
+        }
+    }
+}
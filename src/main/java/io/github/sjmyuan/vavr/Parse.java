@@ -0,0 +1,151 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import java.util.EnumMap;
+
+/**
+ * Integer parsing that reports bad input without throwing. Failures are preallocated
+ * {@code Try.failure}/{@code Either.left} values, so rejecting input costs no allocation and no
+ * stack walk. The failure cause is still a {@link NumberFormatException}.
+ */
+public final class Parse {
+
+    private static final ParseError[] ERRORS = ParseError.values();
+
+    private static final EnumMap<ParseError, Try<?>> FAILURES = new EnumMap<>(ParseError.class);
+    private static final EnumMap<ParseError, Either<ParseError, ?>> LEFTS =
+            new EnumMap<>(ParseError.class);
+
+    static {
+        for (ParseError error : ERRORS) {
+            FAILURES.put(error, Try.failure(error.exception()));
+            LEFTS.put(error, Either.left(error));
+        }
+    }
+
+    // Results of scanInt outside the int range encode a ParseError ordinal.
+    private static final long INT_ERROR = Long.MIN_VALUE;
+
+    private Parse() {
+    }
+
+    public static Try<Integer> intTry(CharSequence input) {
+        long result = scanInt(input);
+        return isIntError(result) ? failure(intError(result)) : Try.success((int) result);
+    }
+
+    public static Either<ParseError, Integer> intEither(CharSequence input) {
+        long result = scanInt(input);
+        return isIntError(result) ? left(intError(result)) : Either.right((int) result);
+    }
+
+    public static Try<Long> longTry(CharSequence input) {
+        ParseError error = validateLong(input);
+        return error == null ? Try.success(parseValidLong(input)) : failure(error);
+    }
+
+    public static Either<ParseError, Long> longEither(CharSequence input) {
+        ParseError error = validateLong(input);
+        return error == null ? Either.right(parseValidLong(input)) : left(error);
+    }
+
+    private static long scanInt(CharSequence input) {
+        if (input == null || input.length() == 0) {
+            return INT_ERROR + ParseError.EMPTY.ordinal();
+        }
+        int length = input.length();
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+            if (length == 1) {
+                return INT_ERROR + ParseError.INVALID_CHARACTER.ordinal();
+            }
+        }
+        long limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INT_ERROR + ParseError.INVALID_CHARACTER.ordinal();
+            }
+            result = result * 10 - digit;
+            if (result < limit) {
+                return INT_ERROR + ParseError.OVERFLOW.ordinal();
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isIntError(long result) {
+        return result < Integer.MIN_VALUE;
+    }
+
+    private static ParseError intError(long result) {
+        return ERRORS[(int) (result - INT_ERROR)];
+    }
+
+    private static ParseError validateLong(CharSequence input) {
+        if (input == null || input.length() == 0) {
+            return ParseError.EMPTY;
+        }
+        int length = input.length();
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+            if (length == 1) {
+                return ParseError.INVALID_CHARACTER;
+            }
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return ParseError.INVALID_CHARACTER;
+            }
+            if (result < multmin) {
+                return ParseError.OVERFLOW;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return ParseError.OVERFLOW;
+            }
+            result -= digit;
+        }
+        return null;
+    }
+
+    // Only called on input accepted by validateLong.
+    private static long parseValidLong(CharSequence input) {
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+        }
+        long result = 0;
+        for (; i < input.length(); i++) {
+            result = result * 10 - (input.charAt(i) - '0');
+        }
+        return negative ? result : -result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Try<T> failure(ParseError error) {
+        return (Try<T>) FAILURES.get(error);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Either<ParseError, T> left(ParseError error) {
+        return (Either<ParseError, T>) LEFTS.get(error);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.sjmyuan.vavr;
+
+/**
+ * Error codes of the {@link Parse} fast path. Each code owns one preallocated, stackless
+ * {@link NumberFormatException} so failures can be reported as a {@code Try} without filling in a
+ * stack trace.
+ */
+public enum ParseError {
+    EMPTY("empty input"),
+    INVALID_CHARACTER("invalid character"),
+    OVERFLOW("value out of range");
+
+    private final NumberFormatException exception;
+
+    ParseError(String message) {
+        this.exception = new StacklessNumberFormatException(message);
+    }
+
+    public NumberFormatException exception() {
+        return exception;
+    }
+
+    private static final class StacklessNumberFormatException extends NumberFormatException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessNumberFormatException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Function1;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Collects {@link Function1} stages and runs them as one flat loop over an array, instead of the
+ * nested lambdas built by {@code andThen}/{@code compose}, which add a stack frame per stage.
+ * Nested pipelines are spliced in and identity stages are dropped when the pipeline is built.
+ */
+public final class Pipeline<A, B> {
+
+    private static final Function1<Object, Object>[] NO_STAGES = newStages(0);
+
+    private final Function1<Object, Object>[] stages;
+
+    private Pipeline(Function1<Object, Object>[] stages) {
+        this.stages = stages;
+    }
+
+    public static <A> Pipeline<A, A> identity() {
+        return new Pipeline<>(NO_STAGES);
+    }
+
+    public static <A> Builder<A, A> builder() {
+        return new Builder<>();
+    }
+
+    public static <A, B> Pipeline<A, B> of(Function1<? super A, ? extends B> stage) {
+        return Pipeline.<A>identity().andThen(stage);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <C> Pipeline<A, C> andThen(Function1<? super B, ? extends C> stage) {
+        if (stage == Function1.identity()) {
+            return (Pipeline<A, C>) this;
+        }
+        if (stage instanceof Fused) {
+            return andThen(((Fused<B, C>) stage).pipeline);
+        }
+        Function1<Object, Object>[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = (Function1<Object, Object>) stage;
+        return new Pipeline<>(next);
+    }
+
+    public <C> Pipeline<A, C> andThen(Pipeline<B, C> other) {
+        Function1<Object, Object>[] next = Arrays.copyOf(stages, stages.length + other.stages.length);
+        System.arraycopy(other.stages, 0, next, stages.length, other.stages.length);
+        return new Pipeline<>(next);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <Z> Pipeline<Z, B> compose(Function1<? super Z, ? extends A> stage) {
+        return Pipeline.<Z, A>of(stage).andThen(this);
+    }
+
+    public int size() {
+        return stages.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public B apply(A input) {
+        Object value = input;
+        for (Function1<Object, Object> stage : stages) {
+            value = stage.apply(value);
+        }
+        return (B) value;
+    }
+
+    /**
+     * The pipeline as a single {@link Function1}. Passing it back to {@link #andThen} splices its
+     * stages instead of nesting it.
+     */
+    public Function1<A, B> toFunction() {
+        return new Fused<>(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function1<Object, Object>[] newStages(int size) {
+        return (Function1<Object, Object>[]) new Function1<?, ?>[size];
+    }
+
+    /**
+     * Collects stages without copying, for pipelines assembled from many stages.
+     */
+    public static final class Builder<A, B> {
+        private final ArrayList<Function1<Object, Object>> stages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        @SuppressWarnings("unchecked")
+        public <C> Builder<A, C> then(Function1<? super B, ? extends C> stage) {
+            if (stage instanceof Fused) {
+                stages.addAll(Arrays.asList(((Fused<?, ?>) stage).pipeline.stages));
+            } else if (stage != Function1.identity()) {
+                stages.add((Function1<Object, Object>) stage);
+            }
+            return (Builder<A, C>) this;
+        }
+
+        public Pipeline<A, B> build() {
+            return new Pipeline<>(stages.toArray(newStages(stages.size())));
+        }
+    }
+
+    private static final class Fused<A, B> implements Function1<A, B> {
+        private static final long serialVersionUID = 1L;
+
+        final Pipeline<A, B> pipeline;
+
+        Fused(Pipeline<A, B> pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public B apply(A input) {
+            return pipeline.apply(input);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.API;
+import io.vavr.Function2;
+import io.vavr.Patterns;
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exercises the vavr paths the examples rely on: pattern matching, {@code Try}, {@code Either},
+ * {@code Option}, {@code Validation}, lifted functions, tuples, the persistent collections, and
+ * {@code Future} and {@code Promise} on the direct executor. Thread pools are left to the
+ * application, which knows which ones it starts. Calling {@link #run()} at startup, or from
+ * {@link #inBackground()} while the process initializes, moves their class loading, lambda
+ * bootstrapping and first compilations off the first real request.
+ *
+ * <p>{@link #main} runs the same workload, which makes it a training run for an AppCDS class list:
+ * {@code java -XX:DumpLoadedClassList=vavr.classlist -cp ... io.github.sjmyuan.vavr.Prewarm}.
+ */
+public final class Prewarm {
+
+    /**
+     * Nearly all of the saving comes from the first call, which loads and links the classes and
+     * lambdas; further calls mostly feed the JIT and, on a machine with one CPU, delay the first
+     * real request if they are still running.
+     */
+    public static final int DEFAULT_ITERATIONS = 100;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private Prewarm() {
+    }
+
+    public static long run() {
+        return run(DEFAULT_ITERATIONS);
+    }
+
+    /** Returns a checksum of the results so the work cannot be optimized away. */
+    public static long run(int iterations) {
+        return Workload.run(iterations);
+    }
+
+    public static Thread inBackground() {
+        return inBackground(DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Runs {@link #run(int)} on a daemon thread and returns it, already started. The calling thread
+     * only loads this small class: the workload lives in its own class, and no lambda or string
+     * concatenation is linked here, as each would cost the caller tens of milliseconds at startup.
+     */
+    public static Thread inBackground(int iterations) {
+        Thread thread = new Thread(new Worker(iterations),
+                "prewarm-".concat(Integer.toString(THREADS.incrementAndGet())));
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        System.out.println("prewarm checksum " + run(iterations));
+    }
+
+    private static final class Worker implements Runnable {
+        private final int iterations;
+
+        Worker(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public void run() {
+            Workload.run(iterations);
+        }
+    }
+
+    private static final class Workload {
+
+        static long run(int iterations) {
+            long checksum = 0;
+            for (int i = 0; i < iterations; i++) {
+                checksum = 31 * checksum + once(i);
+            }
+            return checksum;
+        }
+
+        private static long once(int i) {
+            long acc = 0;
+
+            Integer matched = API.Match(Option.of(i % 3 == 0 ? null : i)).of(
+                    API.Case(Patterns.$Some(API.$(x -> x < 2)), x -> x + 10),
+                    API.Case(Patterns.$Some(API.$()), x -> x),
+                    API.Case(Patterns.$None(), 2));
+            Either<String, Integer> either = i % 2 == 0 ? Either.right(i) : Either.left("odd");
+            String side = API.Match(either).of(
+                    API.Case(Patterns.$Left(API.$()), "Left"),
+                    API.Case(Patterns.$Right(API.$()), x -> x.toString()));
+            String constant = API.Match(i % 4).of(API.Case(API.$(1), "1"), API.Case(API.$(2), "2"),
+                    API.Case(API.$(), "other"));
+            acc += matched + side.length() + constant.length();
+
+            Try<Integer> parsed = Try.of(() -> Integer.parseInt(i % 5 == 0 ? "a" : "1"))
+                    .map(x -> x + 1)
+                    .filter(x -> x > 0)
+                    .flatMap(x -> Try.success(x * 2))
+                    .recover(NumberFormatException.class, e -> -1)
+                    .onFailure(e -> { });
+            acc += parsed.getOrElse(0)
+                    + Try.failure(new Exception("Error")).map(x -> 1).getOrElse(0);
+
+            acc += either.map(x -> x + 1).mapLeft(String::length).flatMap(x -> Either.right(x * 2))
+                    .peek(x -> { }).peekLeft(x -> { }).fold(l -> l, r -> r);
+
+            acc += Option.of(i).map(x -> x + 1).filter(x -> x % 2 == 0).flatMap(Option::some)
+                    .fold(() -> 0, x -> x) + Option.none().getOrElse(0).hashCode();
+
+            Validation<Seq<String>, String> validated = Validation.combine(
+                    i % 7 == 0 ? Validation.<String, String>invalid("name is empty")
+                            : Validation.<String, String>valid("a"),
+                    Validation.<String, Integer>valid(i)).ap((name, age) -> name + age);
+            acc += validated.fold(Seq::size, String::length);
+
+            Function2<Integer, Integer, Integer> division = (x, y) -> x / y;
+            acc += Function2.lift(division).apply(i, i % 3).getOrElse(0);
+
+            List<Integer> list = List.of(1, 2, 3).append(i).prepend(i).appendAll(List.range(0, 4));
+            acc += list.map(x -> x * 2).filter(x -> x > 2).fold(0, Integer::sum)
+                    + list.foldLeft(0, (a, x) -> a + x) + list.reverse().head() + list.tail().size()
+                    + List.ofAll(Option.of(i)).sum().intValue();
+            acc += Vector.range(0, 8).map(x -> x + i).update(0, 1).foldLeft(0, Integer::sum);
+            acc += HashMap.of("a", i).put("b", 2).get("a").getOrElse(0);
+            acc += Tuple.of(i, "s").map1(x -> x + 1).apply((x, s) -> x + s.length());
+
+            Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+            Future<Integer> future = promise.future().map(x -> x + 1)
+                    .flatMap(x -> Future.successful(FutureExecutors.direct(), x * 2))
+                    .recover(e -> -1);
+            promise.complete(i % 5 == 0 ? Try.failure(new Exception("Error")) : Try.success(i));
+            acc += future.getOrElse(0);
+            return acc;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * A set of field rules compiled once into flat arrays and then run over single records or whole
+ * batches. Unlike a chain of {@code Either.flatMap}, every failing rule is reported.
+ */
+public final class RecordValidator {
+
+    static final int PARALLEL_CHUNK = 8192;
+
+    private final int[] fields;
+    private final Predicate<Object>[] checks;
+    private final String[] messages;
+
+    private RecordValidator(int[] fields, Predicate<Object>[] checks, String[] messages) {
+        this.fields = fields;
+        this.checks = checks;
+        this.messages = messages;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int ruleCount() {
+        return fields.length;
+    }
+
+    public Validation<Seq<String>, Object[]> validate(Object[] record) {
+        ErrorBuffer errors = new ErrorBuffer(messages);
+        validateRow(record, 0, errors);
+        return errors.isValid() ? Validation.valid(record) : Validation.invalid(errors.errorsFor(0));
+    }
+
+    public ErrorBuffer validateRows(Object[][] rows) {
+        return validateRows(rows, 0, rows.length);
+    }
+
+    public ErrorBuffer validateRows(ForkJoinPool pool, Object[][] rows) {
+        if (rows.length <= PARALLEL_CHUNK) {
+            return validateRows(rows);
+        }
+        return pool.invoke(new RowChunk(rows, 0, rows.length));
+    }
+
+    /**
+     * Validates a column-major batch: {@code columns[field][record]}. Each rule scans its own
+     * column, so the inner loop walks one contiguous array.
+     */
+    public ErrorBuffer validateColumns(Object[][] columns, int recordCount) {
+        ErrorBuffer errors = new ErrorBuffer(messages);
+        for (int rule = 0; rule < fields.length; rule++) {
+            Object[] column = columns[fields[rule]];
+            Predicate<Object> check = checks[rule];
+            for (int record = 0; record < recordCount; record++) {
+                if (!check.test(column[record])) {
+                    errors.add(record, rule);
+                }
+            }
+        }
+        errors.sort();
+        return errors;
+    }
+
+    private ErrorBuffer validateRows(Object[][] rows, int from, int to) {
+        ErrorBuffer errors = new ErrorBuffer(messages);
+        for (int record = from; record < to; record++) {
+            validateRow(rows[record], record, errors);
+        }
+        return errors;
+    }
+
+    private void validateRow(Object[] row, int record, ErrorBuffer errors) {
+        for (int rule = 0; rule < fields.length; rule++) {
+            if (!checks[rule].test(row[fields[rule]])) {
+                errors.add(record, rule);
+            }
+        }
+    }
+
+    private final class RowChunk extends RecursiveTask<ErrorBuffer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[][] rows;
+        private final int from;
+        private final int to;
+
+        RowChunk(Object[][] rows, int from, int to) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ErrorBuffer compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                return validateRows(rows, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            RowChunk right = new RowChunk(rows, mid, to);
+            right.fork();
+            ErrorBuffer errors = new RowChunk(rows, from, mid).compute();
+            errors.addAll(right.join());
+            return errors;
+        }
+    }
+
+    public static final class Builder {
+        private final List<Integer> fields = new ArrayList<>();
+        private final List<Predicate<Object>> checks = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule on {@code field}. A value that is null or not a {@code type} fails the rule.
+         */
+        public <T> Builder rule(int field, Class<T> type, Predicate<? super T> check,
+                String message) {
+            fields.add(field);
+            checks.add(value -> type.isInstance(value) && check.test(type.cast(value)));
+            messages.add(message);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public RecordValidator build() {
+            int[] fieldArray = fields.stream().mapToInt(Integer::intValue).toArray();
+            Predicate<Object>[] checkArray =
+                    (Predicate<Object>[]) checks.toArray(new Predicate<?>[0]);
+            return new RecordValidator(fieldArray, checkArray, messages.toArray(new String[0]));
+        }
+    }
+}
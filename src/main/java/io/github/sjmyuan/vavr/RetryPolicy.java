@@ -0,0 +1,118 @@
+package io.github.sjmyuan.vavr;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+/**
+ * When and after how long {@link Task#retry(RetryPolicy)} tries again: up to
+ * {@code maxAttempts} attempts, waiting {@code initialDelay * multiplier^(n-1)} (capped at
+ * {@code maxDelay}) after the n-th failure. With jitter {@code j}, each wait is drawn uniformly
+ * from {@code [delay * (1 - j), delay]}, so clients that failed together do not retry together.
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryOn;
+    private final DoubleSupplier random;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.jitter = builder.jitter;
+        this.retryOn = builder.retryOn;
+        this.random = builder.random;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /** Whether a failure of the given attempt (counted from 1) is tried again. */
+    public boolean shouldRetry(int attempt, Throwable error) {
+        return attempt < maxAttempts && retryOn.test(error);
+    }
+
+    /** The wait after the given failed attempt, counted from 1. */
+    public Duration delay(int attempt) {
+        double base = Math.min(maxDelayNanos,
+                initialDelayNanos * Math.pow(multiplier, attempt - 1));
+        double factor = 1 - jitter * random.getAsDouble();
+        return Duration.ofNanos((long) (base * factor));
+    }
+
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private double multiplier = 2.0;
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double jitter = 0.5;
+        private Predicate<? super Throwable> retryOn = error -> true;
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        private Builder() {
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /** Fraction of each delay that is randomized, between 0 and 1. */
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /** Only failures matching the predicate are retried; all of them by default. */
+        public Builder retryOn(Predicate<? super Throwable> retryOn) {
+            this.retryOn = retryOn;
+            return this;
+        }
+
+        /** Source of uniform values in {@code [0, 1)} for the jitter. */
+        public Builder random(DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
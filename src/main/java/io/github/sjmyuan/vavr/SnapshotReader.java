@@ -0,0 +1,89 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Iterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the values of a {@link SnapshotWriter} file lazily, decoding each one from a read-only
+ * memory mapping when it is requested, so loading does not go through a heap copy of the file.
+ * The mapping is a single window and thus limited to 2 GB; larger states should be split across
+ * several files.
+ */
+public final class SnapshotReader<T> implements Iterator<T>, AutoCloseable {
+
+    private final FileChannel channel;
+    private final Codec<T> codec;
+    private final CodecInput in;
+
+    private SnapshotReader(FileChannel channel, Codec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("snapshot larger than 2 GB: " + size + " bytes");
+        }
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        this.in = CodecInput.of(mapping);
+        int magic = in.readByte() << 24 | in.readByte() << 16 | in.readByte() << 8 | in.readByte();
+        if (magic != SnapshotWriter.MAGIC) {
+            throw new IOException("not a snapshot file");
+        }
+        int version = in.readVarInt();
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException("unsupported snapshot version " + version);
+        }
+    }
+
+    public static <T> SnapshotReader<T> open(Path path, Codec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new SnapshotReader<>(channel, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Reads a snapshot holding a single value, as written by {@link SnapshotWriter#write}. */
+    public static <T> T read(Path path, Codec<T> codec) throws IOException {
+        try (SnapshotReader<T> reader = open(path, codec)) {
+            if (!reader.hasNext()) {
+                throw new IOException("empty snapshot");
+            }
+            T value = reader.next();
+            if (reader.hasNext()) {
+                throw new IOException("more than one value in snapshot");
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return in.hasRemaining();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("no more values");
+        }
+        return codec.read(in);
+    }
+
+    /** Closes the channel; the mapping itself is released when it is garbage collected. */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.sjmyuan.vavr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams values to a snapshot file through a {@link Codec}, for {@link SnapshotReader} to load
+ * back. Values are encoded into a fixed buffer that is written to the file channel as it fills, so
+ * a state larger than the heap can be written incrementally. {@link #close()} forces the file to
+ * the storage device before closing it.
+ */
+public final class SnapshotWriter<T> implements AutoCloseable {
+
+    static final int MAGIC = 0x56415652;
+    static final int VERSION = 1;
+
+    private final FileChannel channel;
+    private final Codec<T> codec;
+    private final CodecOutput out;
+
+    private SnapshotWriter(FileChannel channel, Codec<T> codec) {
+        this.channel = channel;
+        this.codec = codec;
+        this.out = CodecOutput.to(channel);
+        out.writeByte(MAGIC >>> 24);
+        out.writeByte(MAGIC >>> 16);
+        out.writeByte(MAGIC >>> 8);
+        out.writeByte(MAGIC);
+        out.writeVarInt(VERSION);
+    }
+
+    /** Creates or truncates the file. */
+    public static <T> SnapshotWriter<T> open(Path path, Codec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new SnapshotWriter<>(channel, codec);
+    }
+
+    /** Writes a single value as the whole snapshot. */
+    public static <T> void write(Path path, Codec<T> codec, T value) throws IOException {
+        try (SnapshotWriter<T> writer = open(path, codec)) {
+            writer.write(value);
+        }
+    }
+
+    public SnapshotWriter<T> write(T value) {
+        codec.write(value, out);
+        return this;
+    }
+
+    public SnapshotWriter<T> writeAll(Iterable<? extends T> values) {
+        for (T value : values) {
+            codec.write(value, out);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        try (FileChannel file = channel) {
+            out.flush();
+            file.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A lazy description of a computation. Nothing runs until {@link #runAsync(TaskRuntime)} is
+ * called; the run loop then interprets the task with an explicit continuation stack, so arbitrarily
+ * deep {@code flatMap} chains do not grow the Java stack. Cancelling the returned {@link Future}
+ * stops the run loop at its next step.
+ */
+public abstract class Task<T> {
+
+    private Task() {
+    }
+
+    public static <T> Task<T> successful(T value) {
+        return new Pure<>(value);
+    }
+
+    public static <T> Task<T> failed(Throwable error) {
+        return new Fail<>(error);
+    }
+
+    public static <T> Task<T> of(CheckedFunction0<? extends T> thunk) {
+        return new Delay<>(thunk);
+    }
+
+    public static <T> Task<T> blocking(CheckedFunction0<? extends T> thunk) {
+        return new Blocking<>(thunk);
+    }
+
+    public static <T> Task<T> async(BiConsumer<TaskRuntime, Consumer<Try<T>>> register) {
+        return new Async<>(register);
+    }
+
+    public static Task<Void> sleep(Duration duration) {
+        return async((runtime, callback) -> runtime.timer().schedule(
+                () -> callback.accept(Try.success(null)), duration.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    public <U> Task<U> map(Function<? super T, ? extends U> mapper) {
+        return flatMap(value -> successful(mapper.apply(value)));
+    }
+
+    public <U> Task<U> flatMap(Function<? super T, ? extends Task<? extends U>> mapper) {
+        return new FlatMap<>(this, mapper);
+    }
+
+    public Task<Try<T>> attempt() {
+        return new Attempt<>(this);
+    }
+
+    public Task<T> recover(Function<? super Throwable, ? extends T> handler) {
+        return attempt().map(result -> result.recover(handler).get());
+    }
+
+    /**
+     * Runs {@code finalizer} exactly once when this task succeeds or fails, or when the run it
+     * belongs to is cancelled first, for example by {@link #timeout(Duration)}.
+     */
+    public Task<T> guarantee(Runnable finalizer) {
+        return new Guarantee<>(this, finalizer);
+    }
+
+    /**
+     * Runs this task again after each failure allowed by the policy, waiting on the runtime's
+     * timer between attempts so no thread is blocked.
+     */
+    public Task<T> retry(RetryPolicy policy) {
+        return retry(policy, 1);
+    }
+
+    private Task<T> retry(RetryPolicy policy, int attempt) {
+        return attempt().flatMap(result -> {
+            if (result.isSuccess()) {
+                return successful(result.get());
+            }
+            Throwable error = result.getCause();
+            if (!policy.shouldRetry(attempt, error)) {
+                return failed(error);
+            }
+            return sleep(policy.delay(attempt)).flatMap(ignored -> retry(policy, attempt + 1));
+        });
+    }
+
+    public Task<T> timeout(Duration duration) {
+        Task<T> self = this;
+        return async((runtime, callback) -> {
+            AtomicBoolean done = new AtomicBoolean(false);
+            Future<T> child = self.runAsync(runtime);
+            ScheduledFuture<?> timer = runtime.timer().schedule(() -> {
+                if (done.compareAndSet(false, true)) {
+                    child.cancel();
+                    callback.accept(Try.failure(
+                            new TimeoutException("Task timed out after " + duration)));
+                }
+            }, duration.toNanos(), TimeUnit.NANOSECONDS);
+            child.onComplete(result -> {
+                if (done.compareAndSet(false, true)) {
+                    timer.cancel(false);
+                    callback.accept(result);
+                }
+            });
+        });
+    }
+
+    public Future<T> runAsync() {
+        return runAsync(TaskRuntime.getDefault());
+    }
+
+    public Future<T> runAsync(TaskRuntime runtime) {
+        Promise<T> promise = Promise.make(runtime.compute());
+        @SuppressWarnings("unchecked")
+        RunLoop loop = new RunLoop(runtime, (Promise<Object>) (Promise<?>) promise);
+        loop.resume(this);
+        return promise.future();
+    }
+
+    public Try<T> runSync() {
+        return runSync(TaskRuntime.getDefault());
+    }
+
+    public Try<T> runSync(TaskRuntime runtime) {
+        return runAsync(runtime).await().getValue().get();
+    }
+
+    private static final class Pure<T> extends Task<T> {
+        final T value;
+
+        Pure(T value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Fail<T> extends Task<T> {
+        final Throwable error;
+
+        Fail(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private static final class Delay<T> extends Task<T> {
+        final CheckedFunction0<? extends T> thunk;
+
+        Delay(CheckedFunction0<? extends T> thunk) {
+            this.thunk = thunk;
+        }
+    }
+
+    private static final class Blocking<T> extends Task<T> {
+        final CheckedFunction0<? extends T> thunk;
+
+        Blocking(CheckedFunction0<? extends T> thunk) {
+            this.thunk = thunk;
+        }
+    }
+
+    private static final class Async<T> extends Task<T> {
+        final BiConsumer<TaskRuntime, Consumer<Try<T>>> register;
+
+        Async(BiConsumer<TaskRuntime, Consumer<Try<T>>> register) {
+            this.register = register;
+        }
+    }
+
+    private static final class FlatMap<S, T> extends Task<T> {
+        final Task<S> source;
+        final Function<? super S, ? extends Task<? extends T>> mapper;
+
+        FlatMap(Task<S> source, Function<? super S, ? extends Task<? extends T>> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+    }
+
+    private static final class Attempt<T> extends Task<Try<T>> {
+        final Task<T> source;
+
+        Attempt(Task<T> source) {
+            this.source = source;
+        }
+    }
+
+    private static final class Guarantee<T> extends Task<T> {
+        final Task<T> source;
+        final Runnable finalizer;
+
+        Guarantee(Task<T> source, Runnable finalizer) {
+            this.source = source;
+            this.finalizer = finalizer;
+        }
+    }
+
+    // A continuation frame: either a flatMap function or an attempt handler.
+    private static final class Frame {
+        final Function<Object, Task<Object>> bind;
+
+        Frame(Function<Object, Task<Object>> bind) {
+            this.bind = bind;
+        }
+
+        boolean isHandler() {
+            return bind == null;
+        }
+    }
+
+    private static final Frame HANDLER = new Frame(null);
+
+    private static final class RunLoop {
+        private final TaskRuntime runtime;
+        private final Promise<Object> promise;
+        private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+
+        RunLoop(TaskRuntime runtime, Promise<Object> promise) {
+            this.runtime = runtime;
+            this.promise = promise;
+        }
+
+        @SuppressWarnings("unchecked")
+        void resume(Task<?> start) {
+            Task<Object> current = (Task<Object>) start;
+            while (true) {
+                if (promise.isCompleted()) {
+                    return;
+                }
+                if (current instanceof Pure) {
+                    Object value = ((Pure<Object>) current).value;
+                    Frame frame = stack.poll();
+                    if (frame == null) {
+                        promise.trySuccess(value);
+                        return;
+                    }
+                    if (frame.isHandler()) {
+                        current = new Pure<>(Try.success(value));
+                    } else {
+                        try {
+                            current = frame.bind.apply(value);
+                        } catch (Throwable e) {
+                            current = new Fail<>(e);
+                        }
+                    }
+                } else if (current instanceof Fail) {
+                    Throwable error = ((Fail<Object>) current).error;
+                    Frame frame = stack.poll();
+                    while (frame != null && !frame.isHandler()) {
+                        frame = stack.poll();
+                    }
+                    if (frame == null) {
+                        promise.tryFailure(error);
+                        return;
+                    }
+                    current = new Pure<>(Try.failure(error));
+                } else if (current instanceof Delay) {
+                    current = evaluate(((Delay<Object>) current).thunk);
+                } else if (current instanceof FlatMap) {
+                    FlatMap<Object, Object> flatMap = (FlatMap<Object, Object>) current;
+                    stack.push(new Frame((Function<Object, Task<Object>>) (Function<?, ?>) flatMap.mapper));
+                    current = flatMap.source;
+                } else if (current instanceof Attempt) {
+                    stack.push(HANDLER);
+                    current = ((Attempt<Object>) (Task<?>) current).source;
+                } else if (current instanceof Guarantee) {
+                    Guarantee<Object> guarantee = (Guarantee<Object>) current;
+                    AtomicBoolean done = new AtomicBoolean(false);
+                    Runnable once = () -> {
+                        if (done.compareAndSet(false, true)) {
+                            guarantee.finalizer.run();
+                        }
+                    };
+                    // A cancelled run never resumes, so completion of the promise is the only
+                    // signal it gives.
+                    promise.future().onComplete(ignored -> once.run());
+                    current = guarantee.source.attempt().flatMap(result -> {
+                        once.run();
+                        return result.isSuccess() ? new Pure<>(result.get())
+                                : new Fail<>(result.getCause());
+                    });
+                } else if (current instanceof Blocking) {
+                    CheckedFunction0<Object> thunk =
+                            (CheckedFunction0<Object>) ((Blocking<Object>) current).thunk;
+                    runtime.blocking().execute(() -> {
+                        Task<Object> next = evaluate(thunk);
+                        runtime.compute().execute(() -> resume(next));
+                    });
+                    return;
+                } else {
+                    AtomicBoolean called = new AtomicBoolean(false);
+                    try {
+                        ((Async<Object>) current).register.accept(runtime, result -> {
+                            if (called.compareAndSet(false, true)) {
+                                Task<Object> next = result.isSuccess() ? new Pure<>(result.get())
+                                        : new Fail<>(result.getCause());
+                                runtime.compute().execute(() -> resume(next));
+                            }
+                        });
+                    } catch (Throwable e) {
+                        if (called.compareAndSet(false, true)) {
+                            current = new Fail<>(e);
+                            continue;
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        private static Task<Object> evaluate(CheckedFunction0<?> thunk) {
+            try {
+                return new Pure<>(thunk.apply());
+            } catch (Throwable e) {
+                return new Fail<>(e);
+            }
+        }
+    }
+}
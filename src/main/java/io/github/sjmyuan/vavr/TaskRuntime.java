@@ -0,0 +1,80 @@
+package io.github.sjmyuan.vavr;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used to interpret a {@link Task}: a bounded pool for CPU steps, an executor for
+ * blocking steps and a timer for sleeps and timeouts. Blocking steps run on virtual threads when
+ * the JVM provides them (Java 21+), and on a cached daemon pool otherwise.
+ */
+public final class TaskRuntime implements AutoCloseable {
+
+    private static final class DefaultHolder {
+        static final TaskRuntime DEFAULT = create();
+    }
+
+    private final ExecutorService compute;
+    private final ExecutorService blocking;
+    private final ScheduledExecutorService timer;
+
+    private TaskRuntime(ExecutorService compute, ExecutorService blocking,
+            ScheduledExecutorService timer) {
+        this.compute = compute;
+        this.blocking = blocking;
+        this.timer = timer;
+    }
+
+    public static TaskRuntime getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    public static TaskRuntime create() {
+        return create(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static TaskRuntime create(int parallelism) {
+        ScheduledThreadPoolExecutor timer =
+                new ScheduledThreadPoolExecutor(1, daemonThreadFactory("task-timer"));
+        timer.setRemoveOnCancelPolicy(true);
+        return new TaskRuntime(new ForkJoinPool(parallelism), FutureExecutors.virtualThreads(),
+                timer);
+    }
+
+    public static TaskRuntime of(ExecutorService compute, ExecutorService blocking,
+            ScheduledExecutorService timer) {
+        return new TaskRuntime(compute, blocking, timer);
+    }
+
+    public ExecutorService compute() {
+        return compute;
+    }
+
+    public ExecutorService blocking() {
+        return blocking;
+    }
+
+    public ScheduledExecutorService timer() {
+        return timer;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        blocking.shutdownNow();
+        compute.shutdownNow();
+    }
+
+    static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Short-circuiting sequence/traverse for {@link Option}, {@link Try} and {@link Either}. Values are
+ * collected into one {@link ArrayList} which is frozen into a {@link Vector} at the end, and the
+ * first failure is returned as is, without allocating a new wrapper.
+ */
+public final class Traverse {
+
+    private Traverse() {
+    }
+
+    public static <T> Option<Seq<T>> sequenceOption(Iterable<? extends Option<? extends T>> values) {
+        ArrayList<T> buffer = buffer(values);
+        for (Option<? extends T> value : values) {
+            if (value.isEmpty()) {
+                return Option.none();
+            }
+            buffer.add(value.get());
+        }
+        return Option.some(Vector.ofAll(buffer));
+    }
+
+    public static <T, U> Option<Seq<U>> traverseOption(Iterable<? extends T> values,
+            Function<? super T, ? extends Option<? extends U>> mapper) {
+        ArrayList<U> buffer = buffer(values);
+        for (T value : values) {
+            Option<? extends U> mapped = mapper.apply(value);
+            if (mapped.isEmpty()) {
+                return Option.none();
+            }
+            buffer.add(mapped.get());
+        }
+        return Option.some(Vector.ofAll(buffer));
+    }
+
+    public static <T> Try<Seq<T>> sequenceTry(Iterable<? extends Try<? extends T>> values) {
+        ArrayList<T> buffer = buffer(values);
+        for (Try<? extends T> value : values) {
+            if (value.isFailure()) {
+                return failure(value);
+            }
+            buffer.add(value.get());
+        }
+        return Try.success(Vector.ofAll(buffer));
+    }
+
+    public static <T, U> Try<Seq<U>> traverseTry(Iterable<? extends T> values,
+            Function<? super T, ? extends Try<? extends U>> mapper) {
+        ArrayList<U> buffer = buffer(values);
+        for (T value : values) {
+            Try<? extends U> mapped = mapper.apply(value);
+            if (mapped.isFailure()) {
+                return failure(mapped);
+            }
+            buffer.add(mapped.get());
+        }
+        return Try.success(Vector.ofAll(buffer));
+    }
+
+    public static <L, R> Either<L, Seq<R>> sequenceEither(
+            Iterable<? extends Either<? extends L, ? extends R>> values) {
+        ArrayList<R> buffer = buffer(values);
+        for (Either<? extends L, ? extends R> value : values) {
+            if (value.isLeft()) {
+                return left(value);
+            }
+            buffer.add(value.get());
+        }
+        return Either.right(Vector.ofAll(buffer));
+    }
+
+    public static <L, R, T> Either<L, Seq<R>> traverseEither(Iterable<? extends T> values,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        ArrayList<R> buffer = buffer(values);
+        for (T value : values) {
+            Either<? extends L, ? extends R> mapped = mapper.apply(value);
+            if (mapped.isLeft()) {
+                return left(mapped);
+            }
+            buffer.add(mapped.get());
+        }
+        return Either.right(Vector.ofAll(buffer));
+    }
+
+    private static <T> ArrayList<T> buffer(Iterable<?> values) {
+        if (values instanceof Collection) {
+            return new ArrayList<>(((Collection<?>) values).size());
+        }
+        return new ArrayList<>();
+    }
+
+    // A Failure carries no value, so it can be reused for any result type.
+    @SuppressWarnings("unchecked")
+    private static <T> Try<T> failure(Try<?> failure) {
+        return (Try<T>) failure;
+    }
+
+    // A Left carries no right value, so it can be reused for any right type.
+    @SuppressWarnings("unchecked")
+    private static <L, R> Either<L, R> left(Either<? extends L, ?> left) {
+        return (Either<L, R>) left;
+    }
+}
@@ -0,0 +1,496 @@
+package io.github.sjmyuan.vavr;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple4;
+import io.vavr.Tuple5;
+import io.vavr.Tuple6;
+import io.vavr.Tuple7;
+import io.vavr.Tuple8;
+import io.vavr.collection.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Immutable tuples stored column by column. {@code Integer}, {@code Long} and {@code Double}
+ * fields live in primitive arrays, anything else in an {@code Object[]}, so a batch of N rows costs
+ * one array per column instead of a tuple and boxed fields per row. Column operations loop over a
+ * single array; {@link #project} shares the column arrays, which are never written after
+ * construction.
+ */
+public final class TupleBatch {
+
+    public enum ColumnType {
+        INT, LONG, DOUBLE, OBJECT
+    }
+
+    private final ColumnType[] types;
+    // int[], long[], double[] or Object[] according to types.
+    private final Object[] columns;
+    private final int size;
+
+    private TupleBatch(ColumnType[] types, Object[] columns, int size) {
+        this.types = types;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Builds a batch from rows of equal arity. A column is primitive when every value in it is a
+     * non-null {@code Integer}, {@code Long} or {@code Double} respectively.
+     */
+    public static TupleBatch ofRows(Iterable<? extends Tuple> rows) {
+        ArrayList<Object[]> values = new ArrayList<>();
+        int arity = -1;
+        for (Tuple row : rows) {
+            if (arity < 0) {
+                arity = row.arity();
+            } else if (row.arity() != arity) {
+                throw new IllegalArgumentException(
+                        "rows must have the same arity: " + arity + " and " + row.arity());
+            }
+            values.add(row.toSeq().toJavaArray());
+        }
+        if (arity < 0) {
+            throw new IllegalArgumentException("cannot infer the arity of an empty batch");
+        }
+        int size = values.size();
+        ColumnType[] types = new ColumnType[arity];
+        Object[] columns = new Object[arity];
+        for (int c = 0; c < arity; c++) {
+            types[c] = inferType(values, c);
+            columns[c] = fill(types[c], values, c);
+        }
+        return new TupleBatch(types, columns, size);
+    }
+
+    /**
+     * Builds a batch from column arrays ({@code int[]}, {@code long[]}, {@code double[]} or
+     * {@code Object[]}) of equal length. The arrays are copied.
+     */
+    public static TupleBatch ofColumns(Object... arrays) {
+        if (arrays.length == 0 || arrays.length > 8) {
+            throw new IllegalArgumentException("a batch has 1 to 8 columns");
+        }
+        ColumnType[] types = new ColumnType[arrays.length];
+        Object[] columns = new Object[arrays.length];
+        int size = -1;
+        for (int c = 0; c < arrays.length; c++) {
+            Object array = arrays[c];
+            int length;
+            if (array instanceof int[]) {
+                types[c] = ColumnType.INT;
+                columns[c] = ((int[]) array).clone();
+                length = ((int[]) array).length;
+            } else if (array instanceof long[]) {
+                types[c] = ColumnType.LONG;
+                columns[c] = ((long[]) array).clone();
+                length = ((long[]) array).length;
+            } else if (array instanceof double[]) {
+                types[c] = ColumnType.DOUBLE;
+                columns[c] = ((double[]) array).clone();
+                length = ((double[]) array).length;
+            } else if (array instanceof Object[]) {
+                types[c] = ColumnType.OBJECT;
+                columns[c] = ((Object[]) array).clone();
+                length = ((Object[]) array).length;
+            } else {
+                throw new IllegalArgumentException("unsupported column " + c + ": " + array);
+            }
+            if (size >= 0 && length != size) {
+                throw new IllegalArgumentException("columns must have the same length");
+            }
+            size = length;
+        }
+        return new TupleBatch(types, columns, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return columns.length;
+    }
+
+    public ColumnType columnType(int column) {
+        return types[column];
+    }
+
+    public int getInt(int row, int column) {
+        return ((int[]) column(column, ColumnType.INT))[row];
+    }
+
+    public long getLong(int row, int column) {
+        return ((long[]) column(column, ColumnType.LONG))[row];
+    }
+
+    public double getDouble(int row, int column) {
+        return ((double[]) column(column, ColumnType.DOUBLE))[row];
+    }
+
+    /** The value at the given position, boxed for primitive columns. */
+    public Object get(int row, int column) {
+        Object array = columns[column];
+        switch (types[column]) {
+            case INT:
+                return ((int[]) array)[row];
+            case LONG:
+                return ((long[]) array)[row];
+            case DOUBLE:
+                return ((double[]) array)[row];
+            default:
+                return ((Object[]) array)[row];
+        }
+    }
+
+    public Tuple row(int row) {
+        Object[] v = new Object[columns.length];
+        for (int c = 0; c < v.length; c++) {
+            v[c] = get(row, c);
+        }
+        switch (v.length) {
+            case 1:
+                return Tuple.of(v[0]);
+            case 2:
+                return Tuple.of(v[0], v[1]);
+            case 3:
+                return Tuple.of(v[0], v[1], v[2]);
+            case 4:
+                return Tuple.of(v[0], v[1], v[2], v[3]);
+            case 5:
+                return Tuple.of(v[0], v[1], v[2], v[3], v[4]);
+            case 6:
+                return Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5]);
+            case 7:
+                return Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+            default:
+                return Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2> Tuple2<T1, T2> row2(int row) {
+        return (Tuple2<T1, T2>) rowOfArity(row, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3> Tuple3<T1, T2, T3> row3(int row) {
+        return (Tuple3<T1, T2, T3>) rowOfArity(row, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3, T4> Tuple4<T1, T2, T3, T4> row4(int row) {
+        return (Tuple4<T1, T2, T3, T4>) rowOfArity(row, 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3, T4, T5> Tuple5<T1, T2, T3, T4, T5> row5(int row) {
+        return (Tuple5<T1, T2, T3, T4, T5>) rowOfArity(row, 5);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3, T4, T5, T6> Tuple6<T1, T2, T3, T4, T5, T6> row6(int row) {
+        return (Tuple6<T1, T2, T3, T4, T5, T6>) rowOfArity(row, 6);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3, T4, T5, T6, T7> Tuple7<T1, T2, T3, T4, T5, T6, T7> row7(int row) {
+        return (Tuple7<T1, T2, T3, T4, T5, T6, T7>) rowOfArity(row, 7);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> row8(int row) {
+        return (Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>) rowOfArity(row, 8);
+    }
+
+    /** Rows as tuples, equal to the rows the batch was built from. */
+    public List<Tuple> toRows() {
+        Tuple[] rows = new Tuple[size];
+        for (int r = 0; r < size; r++) {
+            rows[r] = row(r);
+        }
+        return List.of(rows);
+    }
+
+    /** A batch of the given columns, in the given order, sharing their arrays with this one. */
+    public TupleBatch project(int... selected) {
+        if (selected.length == 0) {
+            throw new IllegalArgumentException("a projection needs at least one column");
+        }
+        ColumnType[] projectedTypes = new ColumnType[selected.length];
+        Object[] projected = new Object[selected.length];
+        for (int i = 0; i < selected.length; i++) {
+            projectedTypes[i] = types[selected[i]];
+            projected[i] = columns[selected[i]];
+        }
+        return new TupleBatch(projectedTypes, projected, size);
+    }
+
+    public TupleBatch mapInt(int column, IntUnaryOperator f) {
+        int[] source = (int[]) column(column, ColumnType.INT);
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = f.applyAsInt(source[i]);
+        }
+        return withColumn(column, ColumnType.INT, result);
+    }
+
+    public TupleBatch mapLong(int column, LongUnaryOperator f) {
+        long[] source = (long[]) column(column, ColumnType.LONG);
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = f.applyAsLong(source[i]);
+        }
+        return withColumn(column, ColumnType.LONG, result);
+    }
+
+    public TupleBatch mapDouble(int column, DoubleUnaryOperator f) {
+        double[] source = (double[]) column(column, ColumnType.DOUBLE);
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = f.applyAsDouble(source[i]);
+        }
+        return withColumn(column, ColumnType.DOUBLE, result);
+    }
+
+    /** Keeps the rows whose value in the given column matches. */
+    public TupleBatch filterInt(int column, IntPredicate predicate) {
+        int[] source = (int[]) column(column, ColumnType.INT);
+        int[] selection = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(source[i])) {
+                selection[count++] = i;
+            }
+        }
+        return select(selection, count);
+    }
+
+    public TupleBatch filterLong(int column, LongPredicate predicate) {
+        long[] source = (long[]) column(column, ColumnType.LONG);
+        int[] selection = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(source[i])) {
+                selection[count++] = i;
+            }
+        }
+        return select(selection, count);
+    }
+
+    public TupleBatch filterDouble(int column, DoublePredicate predicate) {
+        double[] source = (double[]) column(column, ColumnType.DOUBLE);
+        int[] selection = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(source[i])) {
+                selection[count++] = i;
+            }
+        }
+        return select(selection, count);
+    }
+
+    public int foldInt(int column, int zero, IntBinaryOperator f) {
+        int[] source = (int[]) column(column, ColumnType.INT);
+        int acc = zero;
+        for (int i = 0; i < size; i++) {
+            acc = f.applyAsInt(acc, source[i]);
+        }
+        return acc;
+    }
+
+    public long foldLong(int column, long zero, LongBinaryOperator f) {
+        long[] source = (long[]) column(column, ColumnType.LONG);
+        long acc = zero;
+        for (int i = 0; i < size; i++) {
+            acc = f.applyAsLong(acc, source[i]);
+        }
+        return acc;
+    }
+
+    public double foldDouble(int column, double zero, DoubleBinaryOperator f) {
+        double[] source = (double[]) column(column, ColumnType.DOUBLE);
+        double acc = zero;
+        for (int i = 0; i < size; i++) {
+            acc = f.applyAsDouble(acc, source[i]);
+        }
+        return acc;
+    }
+
+    /** Folds any column, boxing primitive values. */
+    @SuppressWarnings("unchecked")
+    public <T, U> U foldLeft(int column, U zero, BiFunction<? super U, ? super T, ? extends U> f) {
+        U acc = zero;
+        for (int i = 0; i < size; i++) {
+            acc = f.apply(acc, (T) get(i, column));
+        }
+        return acc;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TupleBatch)) {
+            return false;
+        }
+        TupleBatch that = (TupleBatch) other;
+        return size == that.size && Arrays.equals(types, that.types)
+                && Arrays.deepEquals(columns, that.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(types) + Arrays.deepHashCode(columns);
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch(size=" + size + ", types=" + Arrays.toString(types) + ")";
+    }
+
+    private Object column(int column, ColumnType expected) {
+        if (types[column] != expected) {
+            throw new IllegalArgumentException(
+                    "column " + column + " is " + types[column] + ", not " + expected);
+        }
+        return columns[column];
+    }
+
+    private Tuple rowOfArity(int row, int arity) {
+        if (columns.length != arity) {
+            throw new IllegalStateException(
+                    "batch has " + columns.length + " columns, not " + arity);
+        }
+        return row(row);
+    }
+
+    private TupleBatch withColumn(int column, ColumnType type, Object array) {
+        ColumnType[] newTypes = types.clone();
+        Object[] newColumns = columns.clone();
+        newTypes[column] = type;
+        newColumns[column] = array;
+        return new TupleBatch(newTypes, newColumns, size);
+    }
+
+    private TupleBatch select(int[] selection, int count) {
+        if (count == size) {
+            return this;
+        }
+        Object[] selected = new Object[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            Object array = columns[c];
+            switch (types[c]) {
+                case INT: {
+                    int[] source = (int[]) array;
+                    int[] result = new int[count];
+                    for (int i = 0; i < count; i++) {
+                        result[i] = source[selection[i]];
+                    }
+                    selected[c] = result;
+                    break;
+                }
+                case LONG: {
+                    long[] source = (long[]) array;
+                    long[] result = new long[count];
+                    for (int i = 0; i < count; i++) {
+                        result[i] = source[selection[i]];
+                    }
+                    selected[c] = result;
+                    break;
+                }
+                case DOUBLE: {
+                    double[] source = (double[]) array;
+                    double[] result = new double[count];
+                    for (int i = 0; i < count; i++) {
+                        result[i] = source[selection[i]];
+                    }
+                    selected[c] = result;
+                    break;
+                }
+                default: {
+                    Object[] source = (Object[]) array;
+                    Object[] result = new Object[count];
+                    for (int i = 0; i < count; i++) {
+                        result[i] = source[selection[i]];
+                    }
+                    selected[c] = result;
+                }
+            }
+        }
+        return new TupleBatch(types, selected, count);
+    }
+
+    private static ColumnType inferType(ArrayList<Object[]> rows, int column) {
+        Class<?> common = null;
+        for (Object[] row : rows) {
+            Object value = row[column];
+            if (value == null) {
+                return ColumnType.OBJECT;
+            }
+            if (common == null) {
+                common = value.getClass();
+            } else if (common != value.getClass()) {
+                return ColumnType.OBJECT;
+            }
+        }
+        if (common == Integer.class) {
+            return ColumnType.INT;
+        }
+        if (common == Long.class) {
+            return ColumnType.LONG;
+        }
+        return common == Double.class ? ColumnType.DOUBLE : ColumnType.OBJECT;
+    }
+
+    private static Object fill(ColumnType type, ArrayList<Object[]> rows, int column) {
+        int size = rows.size();
+        switch (type) {
+            case INT: {
+                int[] array = new int[size];
+                for (int r = 0; r < size; r++) {
+                    array[r] = (Integer) rows.get(r)[column];
+                }
+                return array;
+            }
+            case LONG: {
+                long[] array = new long[size];
+                for (int r = 0; r < size; r++) {
+                    array[r] = (Long) rows.get(r)[column];
+                }
+                return array;
+            }
+            case DOUBLE: {
+                double[] array = new double[size];
+                for (int r = 0; r < size; r++) {
+                    array[r] = (Double) rows.get(r)[column];
+                }
+                return array;
+            }
+            default: {
+                Object[] array = new Object[size];
+                for (int r = 0; r < size; r++) {
+                    array[r] = rows.get(r)[column];
+                }
+                return array;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncObserverTest {
+
+    @Test
+    public void shouldHandleValuesInOrderWithEveryWaitStrategy() {
+        for (AsyncObserver.WaitStrategy strategy : AsyncObserver.WaitStrategy.values()) {
+            for (AsyncObserver.ProducerType type : AsyncObserver.ProducerType.values()) {
+                ConcurrentLinkedQueue<Integer> seen = new ConcurrentLinkedQueue<>();
+                try (AsyncObserver<Integer> observer = AsyncObserver.builder(seen::add)
+                        .bufferSize(8).producerType(type).waitStrategy(strategy)
+                        .overflow(AsyncObserver.Overflow.BLOCK).build()) {
+                    for (int i = 0; i < 1000; i++) {
+                        observer.publish(i);
+                    }
+                }
+                assertThat(List.ofAll(seen)).as(strategy + "/" + type)
+                        .isEqualTo(List.range(0, 1000));
+            }
+        }
+    }
+
+    @Test
+    public void canDoPeekAsyncForRightSomeAndSuccess() {
+        ConcurrentLinkedQueue<Integer> seen = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+        Either<String, Integer> right = Either.right(1);
+        Either<String, Integer> left = Either.left("error");
+        try (AsyncObserver<Integer> observer = AsyncObserver.builder(seen::add).build();
+                AsyncObserver<String> errorObserver = AsyncObserver.builder(errors::add).build()) {
+            assertThat(observer.peek(right)).isSameAs(right);
+            assertThat(observer.peek(left)).isSameAs(left);
+            assertThat(errorObserver.peekLeft(left)).isSameAs(left);
+            assertThat(observer.peek(Option.some(2))).isEqualTo(Option.some(2));
+            observer.peek(Option.none());
+            observer.peek(Try.success(3));
+            observer.peek(Try.failure(new RuntimeException()));
+            Either.right(4).peek(observer);
+        }
+
+        assertThat(List.ofAll(seen)).isEqualTo(List.of(1, 2, 3, 4));
+        assertThat(List.ofAll(errors)).isEqualTo(List.of("error"));
+    }
+
+    @Test
+    public void shouldDropWhenFullAndConsumerIsSlow() throws InterruptedException {
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Integer> seen = new ConcurrentLinkedQueue<>();
+        try (AsyncObserver<Integer> observer = AsyncObserver.<Integer>builder(value -> {
+            handling.countDown();
+            await(release);
+            seen.add(value);
+        }).bufferSize(4).producerType(AsyncObserver.ProducerType.SINGLE).build()) {
+            try {
+                assertThat(observer.publish(0)).isTrue();
+                handling.await();
+                // The slot being handled is only freed once its batch completes.
+                for (int i = 1; i < 4; i++) {
+                    assertThat(observer.publish(i)).isTrue();
+                }
+
+                assertThat(observer.publish(4)).isFalse();
+                assertThat(observer.dropped()).isEqualTo(1);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        assertThat(List.ofAll(seen)).isEqualTo(List.range(0, 4));
+    }
+
+    @Test
+    public void shouldBlockWhenFullUntilConsumerCatchesUp() throws InterruptedException {
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong handled = new AtomicLong();
+        AtomicBoolean published = new AtomicBoolean(false);
+        try (AsyncObserver<Integer> observer = AsyncObserver.<Integer>builder(value -> {
+            handling.countDown();
+            await(release);
+            handled.incrementAndGet();
+        }).bufferSize(2).overflow(AsyncObserver.Overflow.BLOCK).build()) {
+            Thread producer = new Thread(() -> {
+                observer.publish(2);
+                published.set(true);
+            });
+            try {
+                observer.publish(0);
+                handling.await();
+                observer.publish(1);
+                producer.start();
+                producer.join(100);
+                assertThat(published.get()).isFalse();
+            } finally {
+                release.countDown();
+            }
+            producer.join();
+            assertThat(published.get()).isTrue();
+        }
+
+        assertThat(handled.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldDeliverEveryValueFromManyProducers() throws InterruptedException {
+        AtomicLong sum = new AtomicLong();
+        AtomicLong count = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int producers = 4;
+        int perProducer = 50_000;
+        try (AsyncObserver<Integer> observer = AsyncObserver.<Integer>builder(value -> {
+            sum.addAndGet(value);
+            count.incrementAndGet();
+        }).bufferSize(64).overflow(AsyncObserver.Overflow.BLOCK).build()) {
+            Thread[] threads = new Thread[producers];
+            for (int p = 0; p < producers; p++) {
+                threads[p] = new Thread(() -> {
+                    for (int i = 1; i <= perProducer; i++) {
+                        observer.publish(i);
+                    }
+                });
+                threads[p].setUncaughtExceptionHandler((t, e) -> failure.set(e));
+                threads[p].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        assertThat(failure.get()).isNull();
+        assertThat(count.get()).isEqualTo((long) producers * perProducer);
+        assertThat(sum.get()).isEqualTo((long) producers * perProducer * (perProducer + 1) / 2);
+    }
+
+    @Test
+    public void shouldCountHandlerFailuresAndKeepConsuming() {
+        ConcurrentLinkedQueue<Integer> seen = new ConcurrentLinkedQueue<>();
+        AsyncObserver<Integer> observer = AsyncObserver.<Integer>builder(value -> {
+            if (value % 2 == 0) {
+                throw new IllegalStateException("audit failed");
+            }
+            seen.add(value);
+        }).build();
+        for (int i = 0; i < 10; i++) {
+            observer.publish(i);
+        }
+        observer.close();
+
+        assertThat(observer.handlerFailures()).isEqualTo(5);
+        assertThat(List.ofAll(seen)).isEqualTo(List.of(1, 3, 5, 7, 9));
+        assertThatThrownBy(() -> observer.publish(1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> AsyncObserver.builder(x -> { }).bufferSize(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
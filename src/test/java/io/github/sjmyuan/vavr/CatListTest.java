@@ -0,0 +1,106 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.NoSuchElementException;
+
+public class CatListTest {
+
+    @Test
+    public void canBeConstructedFromValues() {
+        CatList<Integer> catList = CatList.of(1, 2, 3, 4, 5);
+        assertThat(catList.size()).isEqualTo(5);
+        assertThat(catList.toList()).isEqualTo(List.of(1, 2, 3, 4, 5));
+        assertThat(CatList.empty().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void canBeConstructedFromJavaList() {
+        java.util.List<Integer> javaList = new java.util.LinkedList<>();
+        javaList.add(1);
+        javaList.add(2);
+        javaList.add(3);
+
+        assertThat(CatList.ofAll(javaList)).isEqualTo(CatList.of(1, 2, 3));
+    }
+
+    @Test
+    public void shouldBeImmutable() {
+        CatList<Integer> catList = CatList.of(1, 2, 3);
+        CatList<Integer> catList2 = catList.append(4);
+        CatList<Integer> catList3 = catList.prepend(0);
+
+        assertThat(catList).isEqualTo(CatList.of(1, 2, 3));
+        assertThat(catList2).isEqualTo(CatList.of(1, 2, 3, 4));
+        assertThat(catList3).isEqualTo(CatList.of(0, 1, 2, 3));
+    }
+
+    @Test
+    public void immutableListCanAvoidParameterModification() {
+        CatList<Integer> catList1 = CatList.of(1, 2);
+        CatList<Integer> catList2 = CatList.of(3, 4);
+
+        CatList<Integer> result = catList1.appendAll(catList2);
+
+        assertThat(result).isEqualTo(CatList.of(1, 2, 3, 4));
+        assertThat(catList2.prependAll(catList1)).isEqualTo(result);
+        assertThat(catList1.size()).isEqualTo(2);
+        assertThat(catList2.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void canDoHeadAndTail() {
+        CatList<Integer> catList = CatList.of(1).appendAll(CatList.of(2, 3)).appendAll(CatList.of(4));
+
+        assertThat(catList.head()).isEqualTo(1);
+        assertThat(catList.tail()).isEqualTo(CatList.of(2, 3, 4));
+        assertThat(catList.tail().tail().tail().tail().isEmpty()).isTrue();
+        assertThatThrownBy(() -> CatList.empty().head()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void canDoFold() {
+        CatList<Integer> catList = CatList.of(1, 2, 3);
+        assertThat(catList.foldLeft(0, (acc, ele) -> acc + ele)).isEqualTo(6);
+    }
+
+    @Test
+    public void canAppendManyElementsWithoutOverflow() {
+        CatList<Integer> catList = CatList.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            catList = catList.append(i);
+        }
+
+        assertThat(catList.size()).isEqualTo(1_000_000);
+        assertThat(catList.tail().head()).isEqualTo(1);
+        assertThat(catList.foldLeft(0L, (acc, ele) -> acc + ele)).isEqualTo(499_999_500_000L);
+    }
+
+    @Test
+    public void canTakeTailOfSharedVersionRepeatedly() {
+        CatList<Integer> shared = CatList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            shared = shared.append(i);
+        }
+
+        CatList<Integer> first = shared.tail();
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(shared.tail()).isSameAs(first);
+        }
+        assertThat(shared.append(-1).tail().size()).isEqualTo(100_000);
+
+        long sum = 0;
+        for (CatList<Integer> rest = first; !rest.isEmpty(); rest = rest.tail()) {
+            sum += rest.head();
+        }
+        assertThat(sum).isEqualTo(4_999_950_000L);
+        assertThat(shared.head()).isEqualTo(0);
+    }
+
+    @Test
+    public void canBeConvertedToString() {
+        assertThat(CatList.of(1, 2, 3).toString()).isEqualTo("CatList(1, 2, 3)");
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CodecTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static <T> T roundTrip(Codec<T> codec, T value) {
+        return codec.fromBytes(codec.toBytes(value));
+    }
+
+    @Test
+    public void shouldRoundTripPrimitives() {
+        for (int value : new int[] {0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertThat(roundTrip(Codec.INT, value)).isEqualTo(value);
+        }
+        for (long value : new long[] {0, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40}) {
+            assertThat(roundTrip(Codec.LONG, value)).isEqualTo(value);
+        }
+        assertThat(roundTrip(Codec.DOUBLE, -0.5)).isEqualTo(-0.5);
+        assertThat(roundTrip(Codec.BOOLEAN, true)).isTrue();
+        assertThat(roundTrip(Codec.STRING, "héllo, wörld")).isEqualTo("héllo, wörld");
+        assertThat(Codec.INT.toBytes(-1)).hasSize(1);
+    }
+
+    @Test
+    public void shouldRoundTripCollections() {
+        List<Integer> ints = List.range(-1000, 1000);
+        List<String> strings = List.of("a", "", "ccc");
+        Vector<Long> longs = Vector.range(0, 5000).map(i -> i * 1_000_003L);
+        HashMap<String, Integer> map = HashMap.ofEntries(
+                List.range(0, 500).map(i -> Tuple.of("key" + i, i)));
+        List<Option<Integer>> options = List.of(Option.some(1), Option.none(), Option.some(3));
+
+        assertThat(roundTrip(Codec.list(Codec.INT), ints)).isEqualTo(ints);
+        assertThat(roundTrip(Codec.list(Codec.INT), List.empty())).isEqualTo(List.empty());
+        assertThat(roundTrip(Codec.list(Codec.STRING), strings)).isEqualTo(strings);
+        assertThat(roundTrip(Codec.vector(Codec.LONG), longs)).isEqualTo(longs);
+        assertThat(roundTrip(Codec.hashMap(Codec.STRING, Codec.INT), map)).isEqualTo(map);
+        assertThat(roundTrip(Codec.list(Codec.option(Codec.INT)), options)).isEqualTo(options);
+        assertThat(roundTrip(Codec.tuple2(Codec.INT, Codec.STRING), Tuple.of(1, "a")))
+                .isEqualTo(Tuple.of(1, "a"));
+    }
+
+    @Test
+    public void shouldRoundTripOptionEitherAndValidation() {
+        Codec<Either<String, Integer>> either = Codec.either(Codec.STRING, Codec.INT);
+        Codec<Validation<List<String>, String>> validation =
+                Codec.validation(Codec.list(Codec.STRING), Codec.STRING);
+
+        assertThat(roundTrip(Codec.option(Codec.INT), Option.some(1))).isEqualTo(Option.some(1));
+        assertThat(roundTrip(Codec.option(Codec.INT), Option.none())).isEqualTo(Option.none());
+        assertThat(roundTrip(either, Either.right(1))).isEqualTo(Either.right(1));
+        assertThat(roundTrip(either, Either.left("error"))).isEqualTo(Either.left("error"));
+        assertThat(roundTrip(validation, Validation.valid("a1")))
+                .isEqualTo(Validation.valid("a1"));
+        assertThat(roundTrip(validation, Validation.invalid(List.of("name is empty"))))
+                .isEqualTo(Validation.invalid(List.of("name is empty")));
+    }
+
+    @Test
+    public void shouldRoundTripTry() {
+        Codec<Try<Integer>> codec = Codec.tryOf(Codec.INT);
+
+        assertThat(roundTrip(codec, Try.success(1))).isEqualTo(Try.success(1));
+        Try<Integer> failure = roundTrip(codec, Try.failure(new ArithmeticException("/ by zero")));
+        assertThat(failure.getCause()).isInstanceOf(ArithmeticException.class)
+                .hasMessage("/ by zero");
+        Try<Integer> noMessage = roundTrip(codec, Try.failure(new IllegalStateException()));
+        assertThat(noMessage.getCause()).isInstanceOf(IllegalStateException.class)
+                .hasMessage(null);
+        Try<Integer> noConstructor = roundTrip(codec, Try.failure(new NoConstructorException()));
+        assertThat(noConstructor.getCause()).isExactlyInstanceOf(RuntimeException.class)
+                .hasMessage(NoConstructorException.class.getName());
+    }
+
+    @Test
+    public void shouldBeSmallerThanJavaSerialization() throws IOException {
+        List<Integer> ints = List.range(0, 10_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ints);
+        }
+
+        assertThat(Codec.list(Codec.INT).toBytes(ints).length * 4).isLessThan(bytes.size());
+    }
+
+    @Test
+    public void shouldRejectCorruptInput() {
+        byte[] bytes = Codec.list(Codec.STRING).toBytes(List.of("abc", "def"));
+
+        assertThatThrownBy(() -> Codec.list(Codec.STRING).fromBytes(
+                Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+        assertThatThrownBy(() -> Codec.list(Codec.INT).fromBytes(new byte[] {(byte) 0xff, -1, -1}))
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+        assertThatThrownBy(() -> Codec.INT.fromBytes(new byte[] {2, 0}))
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    public void shouldNotLoadArbitraryClassesFromInput() {
+        Codec<String[]> forged = Codec.of((pair, out) -> {
+            out.writeString(pair[0]);
+            out.writeNullableString(pair[1]);
+        }, in -> null);
+        byte[] bytes = forged.toBytes(new String[] {Initializer.class.getName(), "boom"});
+
+        assertThatThrownBy(() -> Codec.THROWABLE.fromBytes(bytes))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+        assertThat(INITIALIZED.get()).isFalse();
+        assertThat(Codec.THROWABLE.fromBytes(
+                forged.toBytes(new String[] {"com.example.Missing", "gone"})))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessage("com.example.Missing: gone");
+    }
+
+    @Test
+    public void shouldStreamSnapshotThroughFile() throws IOException {
+        Path path = folder.newFile().toPath();
+        Codec<Either<String, Integer>> codec = Codec.either(Codec.STRING, Codec.INT);
+        List<Either<String, Integer>> values = List.range(0, 100_000)
+                .map(i -> i % 7 == 0 ? Either.left("bad " + i) : Either.right(i));
+
+        try (SnapshotWriter<Either<String, Integer>> writer = SnapshotWriter.open(path, codec)) {
+            writer.writeAll(values);
+        }
+
+        try (SnapshotReader<Either<String, Integer>> reader = SnapshotReader.open(path, codec)) {
+            assertThat(reader.next()).isEqualTo(Either.left("bad 0"));
+            assertThat(reader.toList()).isEqualTo(values.tail());
+        }
+    }
+
+    @Test
+    public void shouldReadSingleValueSnapshot() throws IOException {
+        Path path = folder.newFile().toPath();
+        Codec<HashMap<Integer, List<String>>> codec =
+                Codec.hashMap(Codec.INT, Codec.list(Codec.STRING));
+        HashMap<Integer, List<String>> state = HashMap.ofEntries(
+                List.range(0, 1000).map(i -> Tuple.of(i, List.of("v" + i, "w" + i))));
+
+        SnapshotWriter.write(path, codec, state);
+
+        assertThat(SnapshotReader.read(path, codec)).isEqualTo(state);
+    }
+
+    @Test
+    public void shouldRejectForeignFiles() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[] {1, 2, 3, 4, 1});
+
+        assertThatThrownBy(() -> SnapshotReader.open(path, Codec.INT))
+                .isInstanceOf(IOException.class).hasMessage("not a snapshot file");
+    }
+
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+
+    private static final class Initializer {
+        static {
+            INITIALIZED.set(true);
+        }
+    }
+
+    private static final class NoConstructorException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+}
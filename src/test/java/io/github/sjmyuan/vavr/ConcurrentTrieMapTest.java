@@ -0,0 +1,196 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.HashMap;
+import io.vavr.control.Option;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentTrieMapTest {
+
+    // Every instance has the same hash code, to exercise full hash collisions.
+    private static final class Colliding {
+        final int id;
+
+        Colliding(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Colliding && ((Colliding) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    public void canPutGetAndRemove() {
+        ConcurrentTrieMap<String, Integer> map = ConcurrentTrieMap.empty();
+
+        assertThat(map.put("a", 1)).isEqualTo(Option.none());
+        assertThat(map.put("b", 2)).isEqualTo(Option.none());
+        assertThat(map.put("a", 3)).isEqualTo(Option.some(1));
+        assertThat(map.get("a")).isEqualTo(Option.some(3));
+        assertThat(map.get("c")).isEqualTo(Option.none());
+        assertThat(map.remove("b")).isEqualTo(Option.some(2));
+        assertThat(map.remove("b")).isEqualTo(Option.none());
+        assertThat(map.toHashMap()).isEqualTo(HashMap.of("a", 3));
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void canHoldManyKeys() {
+        ConcurrentTrieMap<Integer, Integer> map = ConcurrentTrieMap.empty();
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i, i * 2);
+        }
+        for (int i = 0; i < 100_000; i += 2) {
+            map.remove(i);
+        }
+
+        assertThat(map.size()).isEqualTo(50_000);
+        assertThat(map.get(4)).isEqualTo(Option.none());
+        assertThat(map.get(99_999)).isEqualTo(Option.some(199_998));
+        for (int i = 1; i < 100_000; i += 2) {
+            map.remove(i);
+        }
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void canHandleHashCollisions() {
+        ConcurrentTrieMap<Colliding, Integer> map = ConcurrentTrieMap.empty();
+        for (int i = 0; i < 5; i++) {
+            map.put(new Colliding(i), i);
+        }
+
+        assertThat(map.get(new Colliding(3))).isEqualTo(Option.some(3));
+        assertThat(map.put(new Colliding(3), 30)).isEqualTo(Option.some(3));
+        for (int i = 0; i < 4; i++) {
+            assertThat(map.remove(new Colliding(i))).isEqualTo(Option.some(i == 3 ? 30 : i));
+        }
+        assertThat(map.toHashMap()).isEqualTo(HashMap.of(new Colliding(4), 4));
+        assertThat(map.remove(new Colliding(4))).isEqualTo(Option.some(4));
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void snapshotShouldBeIsolated() {
+        ConcurrentTrieMap<Integer, String> map = ConcurrentTrieMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "v" + i);
+        }
+
+        ConcurrentTrieMap<Integer, String> copy = map.snapshot();
+        ConcurrentTrieMap<Integer, String> view = map.readOnlySnapshot();
+        map.put(1, "changed");
+        map.remove(2);
+        copy.put(3, "copy");
+
+        assertThat(map.get(1)).isEqualTo(Option.some("changed"));
+        assertThat(map.get(3)).isEqualTo(Option.some("v3"));
+        assertThat(copy.get(1)).isEqualTo(Option.some("v1"));
+        assertThat(copy.get(2)).isEqualTo(Option.some("v2"));
+        assertThat(view.get(3)).isEqualTo(Option.some("v3"));
+        assertThat(view.size()).isEqualTo(1000);
+        assertThat(view.isReadOnly()).isTrue();
+        assertThatThrownBy(() -> view.put(1, "x"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void snapshotsShouldBeConsistentUnderConcurrentWrites() throws InterruptedException {
+        ConcurrentTrieMap<Integer, Integer> map = ConcurrentTrieMap.empty();
+        int writers = 4;
+        int perWriter = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int base = w * perWriter;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    map.put(base + i, i);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        List<HashMap<Integer, Integer>> snapshots = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            snapshots.add(map.toHashMap());
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Each writer inserts its keys in order, so a consistent snapshot holds a prefix of them.
+        for (HashMap<Integer, Integer> snapshot : snapshots) {
+            for (int w = 0; w < writers; w++) {
+                int base = w * perWriter;
+                int count = snapshot.keySet().count(k -> k >= base && k < base + perWriter);
+                for (int i = 0; i < count; i++) {
+                    assertThat(snapshot.get(base + i)).isEqualTo(Option.some(i));
+                }
+            }
+        }
+        assertThat(map.size()).isEqualTo(writers * perWriter);
+    }
+
+    @Test
+    public void shouldMatchSequentialStateAfterConcurrentPutsAndRemoves()
+            throws InterruptedException {
+        ConcurrentTrieMap<Integer, Integer> map = ConcurrentTrieMap.empty();
+        int writers = 4;
+        List<java.util.Map<Integer, Integer>> expected = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int w = 0; w < writers; w++) {
+            int owner = w;
+            java.util.Map<Integer, Integer> own = new java.util.HashMap<>();
+            expected.add(own);
+            Thread thread = new Thread(() -> {
+                java.util.Random random = new java.util.Random(owner);
+                for (int i = 0; i < 50_000; i++) {
+                    // Keys are interleaved between writers so they share trie nodes.
+                    int key = random.nextInt(2000) * writers + owner;
+                    if (random.nextInt(3) == 0) {
+                        assertThat(map.remove(key)).isEqualTo(Option.of(own.remove(key)));
+                    } else {
+                        assertThat(map.put(key, i)).isEqualTo(Option.of(own.put(key, i)));
+                    }
+                    if (i % 5000 == 0) {
+                        map.snapshot();
+                    }
+                }
+            });
+            thread.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(failure.get()).isNull();
+        HashMap<Integer, Integer> all = HashMap.empty();
+        for (java.util.Map<Integer, Integer> own : expected) {
+            all = all.merge(HashMap.ofAll(own));
+        }
+        assertThat(map.toHashMap()).isEqualTo(all);
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+public class DeadLetterSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path log() {
+        return folder.getRoot().toPath().resolve("dead-letters.log");
+    }
+
+    private static Either<String, Integer> divide(Integer x, Integer y) {
+        return y == 0 ? Either.left("The denominator can not be 0: " + x) : Either.right(x / y);
+    }
+
+    private static Try<Integer> add(String x, String y) {
+        Try<Integer> xInt = Try.of(() -> Integer.valueOf(x));
+        return xInt.flatMap(xv -> Try.of(() -> xv + Integer.valueOf(y)));
+    }
+
+    @Test
+    public void shouldPassRightsThroughAndPersistLefts() throws IOException {
+        List<Either<String, Integer>> results = List.range(0, 1000).map(i -> divide(i, i % 10));
+
+        List<Integer> rights;
+        try (DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING).build()) {
+            rights = results.flatMap(sink::accept);
+            sink.flush();
+            assertThat(sink.persisted()).isEqualTo(100);
+            assertThat(DeadLetterSink.recover(log(), Codec.STRING))
+                    .isEqualTo(results.filter(Either::isLeft).map(Either::getLeft).toVector());
+        }
+
+        assertThat(rights).isEqualTo(results.filter(Either::isRight).map(Either::get));
+    }
+
+    @Test
+    public void shouldPersistTryFailures() throws IOException {
+        try (DeadLetterSink<Throwable> sink =
+                DeadLetterSink.builder(log(), Codec.THROWABLE).build()) {
+            assertThat(sink.accept(add("1", "2"), Function.identity()).get()).isEqualTo(3);
+            assertThat(sink.accept(add("1", "a"), Function.identity()).isEmpty()).isTrue();
+        }
+
+        Vector<Throwable> recovered = DeadLetterSink.recover(log(), Codec.THROWABLE);
+        assertThat(recovered).hasSize(1);
+        assertThat(recovered.head()).isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("\"a\"");
+    }
+
+    @Test
+    public void shouldReportBackpressureWhenFull() throws IOException, InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Codec<String> slow = Codec.of((value, out) -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Codec.STRING.write(value, out);
+        }, Codec.STRING::read);
+
+        try (DeadLetterSink<String> sink =
+                DeadLetterSink.builder(log(), slow).capacity(4).build()) {
+            assertThat(sink.offer("first")).isTrue();
+            writing.await();
+            for (int i = 0; i < 4; i++) {
+                assertThat(sink.offer("queued " + i)).isTrue();
+            }
+
+            assertThat(sink.offer("dropped")).isFalse();
+            assertThatThrownBy(() -> sink.accept(Either.left("rejected")))
+                    .isInstanceOf(CallRejectedException.class)
+                    .extracting(e -> ((CallRejectedException) e).reason())
+                    .isEqualTo(CallRejectedException.Reason.SINK_FULL);
+            assertThat(sink.rejected()).isEqualTo(2);
+            assertThat(sink.pending()).isEqualTo(4);
+
+            release.countDown();
+            sink.flush();
+        }
+
+        assertThat(DeadLetterSink.recover(log(), Codec.STRING))
+                .containsExactly("first", "queued 0", "queued 1", "queued 2", "queued 3");
+    }
+
+    @Test
+    public void shouldRecoverForcedRecordsWithoutClose() throws IOException {
+        DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING)
+                .forceInterval(Duration.ofMinutes(1)).build();
+        for (int i = 0; i < 50; i++) {
+            sink.offer("record " + i);
+        }
+        sink.flush();
+
+        // Copy the log as a crashed process would leave it, without closing the sink.
+        Path crashed = folder.newFile().toPath();
+        Files.write(crashed, Files.readAllBytes(log()));
+        assertThat(DeadLetterSink.recover(crashed, Codec.STRING))
+                .isEqualTo(Vector.range(0, 50).map(i -> "record " + i));
+        sink.close();
+    }
+
+    @Test
+    public void shouldDropTornTailAndAppendAfterIt() throws IOException {
+        try (DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING).build()) {
+            for (int i = 0; i < 10; i++) {
+                sink.offer("record " + i);
+            }
+        }
+        byte[] bytes = Files.readAllBytes(log());
+        Files.write(log(), Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThat(DeadLetterSink.recover(log(), Codec.STRING))
+                .isEqualTo(Vector.range(0, 9).map(i -> "record " + i));
+
+        try (DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING).build()) {
+            sink.offer("after crash");
+        }
+        assertThat(DeadLetterSink.recover(log(), Codec.STRING))
+                .isEqualTo(Vector.range(0, 9).map(i -> "record " + i).append("after crash"));
+    }
+
+    @Test
+    public void shouldStopAtCorruptRecord() throws IOException {
+        try (DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING).build()) {
+            sink.offer("aaaa");
+            sink.offer("bbbb");
+            sink.offer("cccc");
+        }
+        byte[] bytes = Files.readAllBytes(log());
+        // header (4) + first record (1 + 4 + 4) + length of the second + its first byte
+        bytes[4 + 9 + 1] = 'x';
+        Files.write(log(), bytes);
+
+        assertThat(DeadLetterSink.recover(log(), Codec.STRING)).containsExactly("aaaa");
+    }
+
+    @Test
+    public void shouldRejectUseAfterClose() throws IOException {
+        DeadLetterSink<String> sink = DeadLetterSink.builder(log(), Codec.STRING).build();
+        sink.close();
+        sink.close();
+
+        assertThatThrownBy(() -> sink.offer("late")).isInstanceOf(IllegalStateException.class);
+        assertThat(sink.accept(Either.right(1)).get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectForeignFiles() throws IOException {
+        Files.write(log(), new byte[] {1, 2, 3, 4, 5});
+
+        assertThatThrownBy(() -> DeadLetterSink.builder(log(), Codec.STRING).build())
+                .isInstanceOf(IOException.class).hasMessage("not a dead-letter log");
+        assertThatThrownBy(() -> DeadLetterSink.builder(log(), Codec.STRING).capacity(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
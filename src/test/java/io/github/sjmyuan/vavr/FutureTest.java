@@ -1,5 +1,96 @@
 package io.github.sjmyuan.vavr;
 
+import org.junit.AfterClass;
+import org.junit.Test;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.ExecutorService;
+
 public class FutureTest {
-    
+
+    private static final ExecutorService workStealing = FutureExecutors.workStealing(4);
+    private static final ExecutorService virtualThreads = FutureExecutors.virtualThreads();
+
+    @AfterClass
+    public static void shutdownExecutors() {
+        workStealing.shutdown();
+        virtualThreads.shutdown();
+    }
+
+    @Test
+    public void canBeConstructedFromAComputation() {
+        Future<Integer> intValue = Future.of(workStealing, () -> 1);
+        assertThat(intValue.await().get()).isEqualTo(1);
+        assertThat(intValue.isSuccess()).isTrue();
+    }
+
+    @Test
+    public void canBeConstructedFromAComputationWithException() {
+        Future<Integer> intValue = Future.of(workStealing, () -> Integer.parseInt("a"));
+        assertThat(intValue.await().isFailure()).isTrue();
+        assertThat(intValue.getCause().get()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void canDoMapAndFlatMap() {
+        Future<Integer> intValue = Future.of(virtualThreads, () -> 1);
+        assertThat(intValue.map(x -> x + 1).await().get()).isEqualTo(2);
+        assertThat(intValue.flatMap(x -> Future.of(workStealing, () -> x + 2)).await().get())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void canRunOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+        Future<Thread> thread = Future.of(FutureExecutors.direct(), Thread::currentThread);
+
+        assertThat(thread.isCompleted()).isTrue();
+        assertThat(thread.get()).isSameAs(caller);
+        assertThat(Future.successful(FutureExecutors.direct(), 1).map(x -> x + 1).get())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void canRecoverFromFailure() {
+        Future<Integer> intValue = Future.<Integer>failed(workStealing, new Exception("Error"))
+                .recover(e -> -1);
+        assertThat(intValue.await().get()).isEqualTo(-1);
+    }
+
+    @Test
+    public void canDoSequence() {
+        List<Future<Integer>> futures =
+                List.range(0, 1000).map(x -> Future.of(workStealing, () -> x));
+
+        Future<Seq<Integer>> result = Futures.sequence(futures);
+
+        assertThat(result.await().get()).isEqualTo(List.range(0, 1000));
+        assertThat(result.get()).isEqualTo(Future.sequence(futures).await().get());
+    }
+
+    @Test
+    public void canDoSequenceForEmptyInput() {
+        assertThat(Futures.sequence(List.<Future<Integer>>empty()).await().get())
+                .isEqualTo(List.empty());
+    }
+
+    @Test
+    public void shouldFailSequenceIfAnyFutureFails() {
+        List<Future<Integer>> futures = List.of(Future.successful(1),
+                Future.failed(new Exception("Error")), Future.successful(3));
+
+        Try<Seq<Integer>> result = Futures.sequence(futures).await().getValue().get();
+
+        assertThat(result.getCause()).hasMessageContaining("Error");
+    }
+
+    @Test
+    public void canDoTraverse() {
+        Future<Seq<Integer>> result = Futures.traverse(virtualThreads, List.of(1, 2, 3),
+                x -> Future.of(virtualThreads, () -> x * 2));
+        assertThat(result.await().get()).isEqualTo(List.of(2, 4, 6));
+    }
 }
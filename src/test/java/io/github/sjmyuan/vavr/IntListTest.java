@@ -0,0 +1,93 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.stream.IntStream;
+
+public class IntListTest {
+
+    @Test
+    public void canBeConstructedFromValues() {
+        IntList intList = IntList.of(1, 2, 3, 4, 5);
+        assertThat(intList.size()).isEqualTo(5);
+
+        IntList intList2 = IntList.of(1);
+        assertThat(intList2.size()).isEqualTo(1);
+
+        assertThat(IntList.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void canBeConstructedFromJavaStream() {
+        IntList intList = IntList.ofAll(IntStream.of(1, 2, 3));
+        assertThat(intList).isEqualTo(IntList.of(1, 2, 3));
+    }
+
+    @Test
+    public void shouldBeImmutable() {
+        IntList intList = IntList.of(1, 2, 3);
+        IntList intList2 = intList.append(4);
+
+        assertThat(intList).isEqualTo(IntList.of(1, 2, 3));
+        assertThat(intList2).isEqualTo(IntList.of(1, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldBeImmutableAcrossChunks() {
+        IntList intList = IntList.ofAll(IntStream.range(0, IntList.CHUNK_SIZE));
+        IntList intList2 = intList.append(IntList.CHUNK_SIZE);
+        IntList intList3 = intList.append(-1);
+
+        assertThat(intList.size()).isEqualTo(IntList.CHUNK_SIZE);
+        assertThat(intList2.get(IntList.CHUNK_SIZE)).isEqualTo(IntList.CHUNK_SIZE);
+        assertThat(intList3.get(IntList.CHUNK_SIZE)).isEqualTo(-1);
+        assertThat(intList2).isEqualTo(IntList.ofAll(IntStream.rangeClosed(0, IntList.CHUNK_SIZE)));
+    }
+
+    @Test
+    public void canGetElementByIndex() {
+        IntList intList = IntList.ofAll(IntStream.range(0, 100));
+        assertThat(intList.get(0)).isEqualTo(0);
+        assertThat(intList.get(31)).isEqualTo(31);
+        assertThat(intList.get(32)).isEqualTo(32);
+        assertThat(intList.get(99)).isEqualTo(99);
+        assertThatThrownBy(() -> intList.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void canDoFilter() {
+        IntList intList = IntList.of(1, 2, 3);
+        assertThat(intList.filter(x -> x < 2)).isEqualTo(IntList.of(1));
+
+        IntList bigList = IntList.ofAll(IntStream.range(0, 1000));
+        assertThat(bigList.filter(x -> x % 2 == 0))
+                .isEqualTo(IntList.ofAll(IntStream.range(0, 1000).filter(x -> x % 2 == 0)));
+    }
+
+    @Test
+    public void canDoFold() {
+        IntList intList = IntList.of(1, 2, 3);
+        assertThat(intList.foldLeft(0, (acc, ele) -> acc + ele)).isEqualTo(6);
+
+        IntList bigList = IntList.ofAll(IntStream.rangeClosed(1, 1000));
+        assertThat(bigList.foldLeft(0, (acc, ele) -> acc + ele)).isEqualTo(500500);
+    }
+
+    @Test
+    public void canDoMap() {
+        IntList intList = IntList.of(1, 2, 3);
+        assertThat(intList.map(x -> x + 1)).isEqualTo(IntList.of(2, 3, 4));
+
+        IntList bigList = IntList.ofAll(IntStream.range(0, 1000));
+        assertThat(bigList.map(x -> x * 2))
+                .isEqualTo(IntList.ofAll(IntStream.range(0, 1000).map(x -> x * 2)));
+    }
+
+    @Test
+    public void canBeConvertedToList() {
+        assertThat(IntList.of(1, 2, 3).toList()).isEqualTo(List.of(1, 2, 3));
+        assertThat(IntList.of(1, 2, 3).toString()).isEqualTo("IntList(1, 2, 3)");
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazySeqTest {
+
+    @Test
+    public void canDoFilter() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(LazySeq.of(intList).filter(x -> x < 2).toList()).isEqualTo(List.of(1));
+    }
+
+    @Test
+    public void canDoFold() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(LazySeq.of(intList).foldLeft(0, (acc, ele) -> acc + ele)).isEqualTo(6);
+    }
+
+    @Test
+    public void canDoMap() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(LazySeq.of(intList).map(x -> x + 1).toList()).isEqualTo(List.of(2, 3, 4));
+    }
+
+    @Test
+    public void canDoFlatMap() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(LazySeq.of(intList).flatMap(x -> List.of(x, x)).toList())
+                .isEqualTo(List.of(1, 1, 2, 2, 3, 3));
+    }
+
+    @Test
+    public void shouldMatchEagerChain() {
+        List<Integer> intList = List.range(0, 1000);
+
+        List<String> eager = intList.filter(x -> x % 3 == 0).map(x -> x * 2)
+                .flatMap(x -> List.of(x, -x)).map(x -> x.toString());
+        List<String> lazy = LazySeq.of(intList).filter(x -> x % 3 == 0).map(x -> x * 2)
+                .flatMap(x -> List.of(x, -x)).map(x -> x.toString()).toList();
+
+        assertThat(lazy).isEqualTo(eager);
+        assertThat(LazySeq.of(intList).filter(x -> x % 3 == 0).foldLeft(0L, (acc, ele) -> acc + ele))
+                .isEqualTo(intList.filter(x -> x % 3 == 0).foldLeft(0L, (acc, ele) -> acc + ele));
+    }
+
+    @Test
+    public void shouldBeLazyUntilTerminalOperation() {
+        AtomicInteger calls = new AtomicInteger();
+        LazySeq<Integer> seq = LazySeq.of(List.of(1, 2, 3)).map(x -> {
+            calls.incrementAndGet();
+            return x;
+        });
+        assertThat(calls.get()).isEqualTo(0);
+
+        assertThat(seq.headOption()).isEqualTo(Option.some(1));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void canTakeAndStopEarly() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> taken = LazySeq.of(List.range(0, 1000))
+                .map(x -> {
+                    calls.incrementAndGet();
+                    return x;
+                })
+                .flatMap(x -> List.of(x, x))
+                .take(3)
+                .toList();
+
+        assertThat(taken).isEqualTo(List.of(0, 0, 1));
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(LazySeq.of(List.of(1, 2)).take(0).count()).isEqualTo(0);
+    }
+
+    @Test
+    public void takeShouldLetTheSinkStopThePass() {
+        AtomicInteger calls = new AtomicInteger();
+        LazySeq<Integer> seq = LazySeq.of(List.range(0, 1000))
+                .map(x -> {
+                    calls.incrementAndGet();
+                    return x;
+                })
+                .take(5);
+
+        assertThat(seq.headOption()).isEqualTo(Option.some(0));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(seq.flatMap(x -> List.of(x, x)).take(3).toList()).isEqualTo(List.of(0, 0, 1));
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void canBeReused() {
+        LazySeq<Integer> seq = LazySeq.of(List.of(1, 2, 3)).map(x -> x * 10);
+        assertThat(seq.toList()).isEqualTo(seq.toList());
+        assertThat(seq.count()).isEqualTo(3);
+        assertThat(LazySeq.of(List.<Integer>empty()).headOption()).isEqualTo(Option.none());
+    }
+}
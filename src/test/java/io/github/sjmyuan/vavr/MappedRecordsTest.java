@@ -0,0 +1,141 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class MappedRecordsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path fixture(String content) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.US_ASCII));
+        return path;
+    }
+
+    // Writes `lines` records of `fields` random longs and returns the sum of all fields.
+    private long generate(Path path, int lines, int fields, long seed) throws IOException {
+        Random random = new Random(seed);
+        long sum = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < lines; i++) {
+                for (int j = 0; j < fields; j++) {
+                    long value = random.nextInt() * (long) random.nextInt(1000);
+                    sum += value;
+                    if (j > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(Long.toString(value));
+                }
+                writer.write('\n');
+            }
+        }
+        return sum;
+    }
+
+    private List<Either<ParseError, NumericRecord>> readAll(Path path) throws IOException {
+        try (MappedRecords records = MappedRecords.open(path)) {
+            return List.ofAll(records);
+        }
+    }
+
+    @Test
+    public void canReadRecords() throws IOException {
+        Path path = fixture("1,2,3\n-4,+5,6\n9223372036854775807\n");
+
+        assertThat(readAll(path)).isEqualTo(List.of(
+                Either.right(NumericRecord.of(1, 2, 3)),
+                Either.right(NumericRecord.of(-4, 5, 6)),
+                Either.right(NumericRecord.of(Long.MAX_VALUE))));
+    }
+
+    @Test
+    public void canReadLastLineWithoutNewlineAndCrLf() throws IOException {
+        assertThat(readAll(fixture("1,2\r\n3,4"))).isEqualTo(List.of(
+                Either.right(NumericRecord.of(1, 2)),
+                Either.right(NumericRecord.of(3, 4))));
+        assertThat(readAll(fixture(""))).isEmpty();
+    }
+
+    @Test
+    public void canReportBadLinesAsLeft() throws IOException {
+        Path path = fixture("1,a\n1,,2\n-\n99999999999999999999\n7\n");
+
+        assertThat(readAll(path)).isEqualTo(List.of(
+                Either.left(ParseError.INVALID_CHARACTER),
+                Either.left(ParseError.EMPTY),
+                Either.left(ParseError.INVALID_CHARACTER),
+                Either.left(ParseError.OVERFLOW),
+                Either.right(NumericRecord.of(7))));
+    }
+
+    @Test
+    public void canUseOtherSeparator() throws IOException {
+        try (MappedRecords records = MappedRecords.open(fixture("1\t2\n"), '\t')) {
+            assertThat(records.next()).isEqualTo(Either.right(NumericRecord.of(1, 2)));
+            assertThat(records.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void canReadLinesAcrossMappingWindows() throws IOException {
+        Path path = folder.newFile().toPath();
+        long sum = generate(path, 1000, 3, 1);
+
+        try (MappedRecords records = MappedRecords.open(path, ',', 64, 16)) {
+            List<Either<ParseError, NumericRecord>> all = List.ofAll(records);
+            assertThat(all).isEqualTo(readAll(path));
+            assertThat(all.size()).isEqualTo(1000);
+            assertThat(all.map(Either::get)
+                    .foldLeft(0L, (acc, r) -> acc + r.get(0) + r.get(1) + r.get(2)))
+                    .isEqualTo(sum);
+        }
+    }
+
+    @Test
+    public void canReadLineLongerThanChunk() throws IOException {
+        Path path = fixture("1\n1234567890,-1234567890\n2");
+
+        try (MappedRecords records = MappedRecords.open(path, ',', 8, 4)) {
+            assertThat(List.ofAll(records)).isEqualTo(List.of(
+                    Either.right(NumericRecord.of(1)),
+                    Either.right(NumericRecord.of(1234567890, -1234567890)),
+                    Either.right(NumericRecord.of(2))));
+        }
+    }
+
+    @Test
+    public void shouldCloseAfterLastRecord() throws IOException {
+        MappedRecords records = MappedRecords.open(fixture("1\n"));
+        assertThat(records.next()).isEqualTo(Either.right(NumericRecord.of(1)));
+        assertThat(records.hasNext()).isFalse();
+        assertThatThrownBy(records::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void canFoldLargeFileLazily() throws IOException {
+        Path path = folder.newFile().toPath();
+        long sum = generate(path, 200_000, 4, 2);
+
+        try (MappedRecords records = MappedRecords.open(path)) {
+            long total = records
+                    .filter(Either::isRight)
+                    .map(Either::get)
+                    .foldLeft(0L, (acc, r) -> acc + r.get(0) + r.get(1) + r.get(2) + r.get(3));
+            assertThat(total).isEqualTo(sum);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.MatchError;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static io.vavr.API.*;
+
+public class MatchTableTest {
+
+    @Test
+    public void canMatchOption() {
+        MatchTable<Option<Integer>, Integer> table = MatchTable.<Option<Integer>, Integer>builder()
+                .<Integer>some(x -> x < 2, x -> x + 10)
+                .none(2)
+                .build();
+
+        assertThat(table.apply(Option.some(1))).isEqualTo(11);
+        assertThat(table.apply(Option.none())).isEqualTo(2);
+        assertThat(table.option(Option.some(5))).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void canMatchEither() {
+        MatchTable<Either<String, Integer>, String> table =
+                MatchTable.<Either<String, Integer>, String>builder()
+                        .<String>left(x -> "Left")
+                        .<Integer>right(x -> x.toString())
+                        .build();
+
+        assertThat(table.apply(Either.right(1))).isEqualTo("1");
+        assertThat(table.apply(Either.left("Error"))).isEqualTo("Left");
+    }
+
+    @Test
+    public void canMatchLikeSwitch() {
+        MatchTable<Integer, String> table = MatchTable.<Integer, String>builder()
+                .constant(1, "1")
+                .constant(2, "2")
+                .constant(0, "-1")
+                .build();
+
+        assertThat(table.apply(1)).isEqualTo("1");
+        assertThat(table.apply(0)).isEqualTo("-1");
+        assertThatThrownBy(() -> table.apply(3)).isInstanceOf(MatchError.class);
+    }
+
+    @Test
+    public void shouldKeepFirstMatchOrder() {
+        MatchTable<Integer, String> table = MatchTable.<Integer, String>builder()
+                .constant(1, "one")
+                .when(x -> x < 5, x -> "small")
+                .constant(2, "two")
+                .constant(1, "one again")
+                .otherwise(x -> "other")
+                .build();
+
+        for (int value = -1; value < 10; value++) {
+            Integer intValue = value;
+            String expected = Match(intValue).of(
+                    Case($(1), "one"),
+                    Case($(x -> x < 5), x -> "small"),
+                    Case($(2), "two"),
+                    Case($(1), "one again"),
+                    Case($(), x -> "other"));
+            assertThat(table.apply(intValue)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void canFallBackToVavrCase() {
+        MatchTable<Integer, String> table = MatchTable.<Integer, String>builder()
+                .constant(1, "1")
+                .caseOf(Case($(x -> x > 10), x -> "big"))
+                .build();
+
+        assertThat(table.apply(1)).isEqualTo("1");
+        assertThat(table.apply(11)).isEqualTo("big");
+        assertThat(table.option(5)).isEqualTo(Option.none());
+    }
+}
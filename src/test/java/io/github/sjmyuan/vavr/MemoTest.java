@@ -0,0 +1,105 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Tuple2;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MemoTest {
+
+    @Test
+    public void canMemoizeFunction1() {
+        AtomicInteger calls = new AtomicInteger();
+        Function1<Integer, Integer> add1 = x -> {
+            calls.incrementAndGet();
+            return x + 1;
+        };
+        Memo<Integer, Integer> memo = Memo.builder().maximumSize(10).build();
+        Function1<Integer, Integer> memoized = memo.memoize(add1);
+
+        assertThat(memoized.apply(1)).isEqualTo(2);
+        assertThat(memoized.apply(1)).isEqualTo(2);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(memo.stats().hits()).isEqualTo(1);
+        assertThat(memo.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    public void canMemoizeFunction2() {
+        AtomicInteger calls = new AtomicInteger();
+        Function2<String, String, String> add = (x, y) -> {
+            calls.incrementAndGet();
+            return x + y;
+        };
+        Memo<Tuple2<String, String>, String> memo = Memo.builder().build();
+        Function2<String, String, String> memoized = Memo.memoize(memo, add);
+
+        assertThat(memoized.apply("0", "1")).isEqualTo("01");
+        assertThat(memoized.apply("0", "1")).isEqualTo("01");
+        assertThat(memoized.apply("1", "0")).isEqualTo("10");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(memoized.curried().apply("0").apply("1")).isEqualTo("01");
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        Memo<Integer, Integer> memo = Memo.builder().maximumSize(2).stripes(1).build();
+        Function1<Integer, Integer> memoized = memo.memoize(x -> x * 10);
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(1);
+        memoized.apply(3);
+
+        assertThat(memo.size()).isEqualTo(2);
+        assertThat(memo.stats().evictions()).isEqualTo(1);
+
+        memoized.apply(1);
+        assertThat(memo.stats().hits()).isEqualTo(2);
+        memoized.apply(2);
+        assertThat(memo.stats().misses()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldStayBounded() {
+        Memo<Integer, Integer> memo = Memo.builder().maximumSize(100).stripes(4).build();
+        Function1<Integer, Integer> memoized = memo.memoize(x -> x);
+        for (int i = 0; i < 10_000; i++) {
+            memoized.apply(i);
+        }
+        assertThat(memo.size()).isLessThanOrEqualTo(100);
+        assertThat(memo.stats().evictions()).isEqualTo(10_000 - memo.size());
+    }
+
+    @Test
+    public void shouldExpireAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        Memo<Integer, Integer> memo = Memo.builder()
+                .expireAfterWrite(Duration.ofSeconds(1))
+                .ticker(now::get)
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+        Function1<Integer, Integer> memoized = memo.memoize(x -> x + calls.incrementAndGet());
+
+        assertThat(memoized.apply(0)).isEqualTo(1);
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        assertThat(memoized.apply(0)).isEqualTo(1);
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertThat(memoized.apply(0)).isEqualTo(2);
+        assertThat(memo.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    public void canCacheNullResults() {
+        Memo<String, String> memo = Memo.builder().build();
+        Function1<String, String> memoized = memo.memoize(x -> null);
+
+        assertThat(memoized.apply("a")).isNull();
+        assertThat(memoized.apply("a")).isNull();
+        assertThat(memo.stats().hits()).isEqualTo(1);
+    }
+}
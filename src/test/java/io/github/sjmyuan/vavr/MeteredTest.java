@@ -0,0 +1,130 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.HashMap;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class MeteredTest {
+
+    @Test
+    public void canCountTryOutcomesPerExceptionClass() {
+        Meter meter = Metered.meter("try-outcomes", 1);
+        assertThat(meter.tryOf(() -> 1)).isEqualTo(Try.success(1));
+        meter.tryOf(() -> 2);
+        meter.tryOf(() -> Integer.parseInt("a"));
+        meter.tryOf(() -> {
+            throw new IllegalStateException();
+        });
+        Try<Object> failure = meter.tryOf(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(failure.getCause()).isInstanceOf(IllegalStateException.class);
+        MeterSnapshot snapshot = meter.snapshot();
+        assertThat(snapshot.successes()).isEqualTo(2);
+        assertThat(snapshot.failures()).isEqualTo(3);
+        assertThat(snapshot.failuresByType()).isEqualTo(HashMap.of(
+                "java.lang.NumberFormatException", 1L,
+                "java.lang.IllegalStateException", 2L));
+        assertThat(snapshot.failureRate()).isEqualTo(0.6);
+        assertThat(snapshot.latencySamples()).isEqualTo(5);
+        Metered.remove("try-outcomes");
+    }
+
+    @Test
+    public void canCountEitherOutcomes() {
+        Either<ParseError, Integer> right =
+                Metered.either("either-outcomes", () -> Parse.intEither("1"));
+        Metered.either("either-outcomes", () -> Parse.intEither("a"));
+        Metered.either("either-outcomes", () -> Either.left("boom"));
+
+        assertThat(right).isEqualTo(Either.right(1));
+        MeterSnapshot snapshot = Metered.snapshot().get("either-outcomes").get();
+        assertThat(snapshot.successes()).isEqualTo(1);
+        assertThat(snapshot.failuresByType()).isEqualTo(HashMap.of(
+                "io.github.sjmyuan.vavr.ParseError.INVALID_CHARACTER", 1L,
+                "java.lang.String", 1L));
+        Metered.remove("either-outcomes");
+        assertThat(Metered.snapshot().containsKey("either-outcomes")).isFalse();
+    }
+
+    @Test
+    public void canSampleLatency() {
+        Meter meter = Metered.meter("sampled", 8);
+        for (int i = 0; i < 8000; i++) {
+            meter.tryOf(() -> 1);
+        }
+
+        MeterSnapshot snapshot = meter.snapshot();
+        assertThat(snapshot.successes()).isEqualTo(8000);
+        assertThat(snapshot.latencySamples()).isBetween(700L, 1300L);
+        assertThatThrownBy(() -> Metered.meter("bad", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        meter.reset();
+        assertThat(meter.snapshot().count()).isEqualTo(0);
+        Metered.remove("sampled");
+    }
+
+    @Test
+    public void shouldKeepBucketsWithinOneEighth() {
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat(upper - value).isLessThanOrEqualTo(value / 8);
+            assertThat(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value).isTrue();
+        }
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE))
+                .isEqualTo(LatencyHistogram.BUCKETS - 1);
+        assertThat(LatencyHistogram.bucketIndex(-5)).isEqualTo(0);
+    }
+
+    @Test
+    public void canComputePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        MeterSnapshot snapshot =
+                new MeterSnapshot("p", 0, HashMap.empty(), histogram.snapshot());
+
+        assertThat(snapshot.latencyPercentile(0.5)).isBetween(50_000L, 50_000L + 50_000L / 8);
+        assertThat(snapshot.latencyPercentile(0.99)).isBetween(99_000L, 99_000L + 99_000L / 8);
+        assertThat(snapshot.latencyPercentile(1.0)).isBetween(100_000L, 100_000L + 100_000L / 8);
+        assertThat(snapshot.latencyPercentile(0.0)).isBetween(1000L, 1125L);
+    }
+
+    @Test
+    public void canEmitJfrEvents() throws IOException {
+        Path file = Files.createTempFile("metered", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.sjmyuan.vavr.Metered");
+            recording.start();
+            Metered.tryOf("jfr", () -> 1);
+            Metered.tryOf("jfr", () -> Integer.parseInt("a"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> "jfr".equals(e.getString("meter")))
+                .collect(Collectors.toList());
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getBoolean("success")).isTrue();
+        assertThat(events.get(1).getString("failure"))
+                .isEqualTo("java.lang.NumberFormatException");
+        Files.delete(file);
+        Metered.remove("jfr");
+    }
+}
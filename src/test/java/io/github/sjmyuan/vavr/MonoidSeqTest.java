@@ -0,0 +1,122 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.Random;
+
+public class MonoidSeqTest {
+
+    Integer sum(List<Integer> list) {
+        return list.fold(0, (acc, ele) -> acc + ele);
+    }
+
+    private static void assertBalanced(MonoidSeq<?, ?> seq) {
+        // An AVL tree of n nodes is at most about 1.44 log2(n + 2) high.
+        double bound = 1.45 * Math.log(seq.size() + 2) / Math.log(2);
+        assertThat((double) seq.height()).isLessThanOrEqualTo(bound);
+    }
+
+    @Test
+    public void canDoFold() {
+        MonoidSeq<Integer, Integer> seq = MonoidSeq.ofAll(Monoid.intSum(), List.of(1, 2, 3));
+
+        assertThat(seq.summary()).isEqualTo(6);
+        assertThat(seq.toList()).isEqualTo(List.of(1, 2, 3));
+        assertThat(MonoidSeq.empty(Monoid.intSum()).summary()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldMatchListAfterRandomEdits() {
+        Random random = new Random(42);
+        List<Integer> list = List.empty();
+        MonoidSeq<Integer, Integer> seq = MonoidSeq.empty(Monoid.intSum());
+        for (int step = 0; step < 2000; step++) {
+            int value = random.nextInt(1000) - 500;
+            int op = random.nextInt(4);
+            if (op == 0 || list.isEmpty()) {
+                list = list.append(value);
+                seq = seq.append(value);
+            } else if (op == 1) {
+                list = list.prepend(value);
+                seq = seq.prepend(value);
+            } else if (op == 2) {
+                int index = random.nextInt(list.size());
+                list = list.update(index, value);
+                seq = seq.update(index, value);
+            } else {
+                int index = random.nextInt(list.size() + 1);
+                Tuple2<MonoidSeq<Integer, Integer>, MonoidSeq<Integer, Integer>> parts =
+                        seq.splitAt(index);
+                assertThat(parts._1.toList()).isEqualTo(list.take(index));
+                assertThat(parts._2.toList()).isEqualTo(list.drop(index));
+                assertBalanced(parts._1);
+                assertBalanced(parts._2);
+                seq = parts._2.appendAll(parts._1);
+                list = list.drop(index).appendAll(list.take(index));
+            }
+            assertThat(seq.summary()).isEqualTo(sum(list));
+        }
+        assertThat(seq.toList()).isEqualTo(list);
+        assertBalanced(seq);
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(list.size() + 1);
+            int to = from + random.nextInt(list.size() - from + 1);
+            assertThat(seq.summary(from, to)).isEqualTo(sum(list.slice(from, to)));
+        }
+    }
+
+    @Test
+    public void shouldStayBalancedWhenAppending() {
+        MonoidSeq<Integer, Integer> seq = MonoidSeq.empty(Monoid.intSum());
+        for (int i = 0; i < 100_000; i++) {
+            seq = seq.append(i);
+        }
+
+        assertBalanced(seq);
+        assertThat(seq.get(54_321)).isEqualTo(54_321);
+        assertThat(seq.summary(10, 20)).isEqualTo(145);
+    }
+
+    @Test
+    public void shouldKeepOldVersionsUnchanged() {
+        MonoidSeq<Integer, Integer> v1 = MonoidSeq.ofAll(Monoid.intSum(), List.range(0, 100));
+        MonoidSeq<Integer, Integer> v2 = v1.update(50, 1000);
+        MonoidSeq<Integer, Integer> v3 = v2.append(1);
+
+        assertThat(v1.summary()).isEqualTo(4950);
+        assertThat(v2.summary()).isEqualTo(4950 - 50 + 1000);
+        assertThat(v3.summary()).isEqualTo(4950 - 50 + 1000 + 1);
+        assertThat(v1.get(50)).isEqualTo(50);
+        assertThat(v1.take(10)).isEqualTo(MonoidSeq.ofAll(Monoid.intSum(), List.range(0, 10)));
+        assertThat(v1.drop(95).toList()).isEqualTo(List.range(95, 100));
+    }
+
+    @Test
+    public void shouldKeepSeveralSummariesWithMeasure() {
+        Monoid<Tuple2<Integer, Integer>> minMax = Monoid.tuple2(Monoid.intMin(), Monoid.intMax());
+        MonoidSeq<String, Tuple2<Integer, Integer>> words = MonoidSeq.ofAll(minMax,
+                word -> Tuple.of(word.length(), word.length()),
+                List.of("a", "abc", "ab", "abcde", "abcd"));
+        MonoidSeq<String, Integer> counts =
+                MonoidSeq.ofAll(Monoid.intSum(), word -> 1, List.of("x", "y", "z"));
+
+        assertThat(words.summary()).isEqualTo(Tuple.of(1, 5));
+        assertThat(words.summary(1, 3)).isEqualTo(Tuple.of(2, 3));
+        assertThat(words.summary(2, 2)).isEqualTo(minMax.empty());
+        assertThat(counts.append("w").summary()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldRejectInvalidIndexes() {
+        MonoidSeq<Integer, Integer> seq = MonoidSeq.ofAll(Monoid.intSum(), List.of(1, 2));
+
+        assertThatThrownBy(() -> seq.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> seq.update(-1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> seq.summary(1, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> seq.splitAt(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.github.sjmyuan.vavr.OffHeapVector.Layout;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OffHeapVectorTest {
+
+    @Test
+    public void canBeConstructedFromJavaList() {
+        java.util.List<Long> javaList = new java.util.ArrayList<>();
+        javaList.add(1L);
+        javaList.add(2L);
+        javaList.add(3L);
+
+        try (OffHeapArena arena = OffHeapArena.create()) {
+            OffHeapVector<Long> vector = OffHeapVector.ofAll(arena, Layout.LONG, javaList);
+            assertThat(vector.size()).isEqualTo(3);
+            assertThat(vector.get(2)).isEqualTo(3L);
+            assertThat(vector.toVector()).isEqualTo(Vector.of(1L, 2L, 3L));
+            assertThat(vector.toString()).isEqualTo("OffHeapVector(1, 2, 3)");
+            assertThat(OffHeapVector.empty(arena, Layout.INT).isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldBeImmutable() {
+        try (OffHeapArena arena = OffHeapArena.create(1 << 20)) {
+            int size = OffHeapVector.CHUNK_RECORDS * 3 + 5;
+            OffHeapVector<Integer> vector =
+                    OffHeapVector.tabulate(arena, Layout.INT, size, i -> i);
+            long before = arena.allocatedBytes();
+
+            OffHeapVector<Integer> updated = vector.update(OffHeapVector.CHUNK_RECORDS + 1, -1);
+
+            assertThat(vector.get(OffHeapVector.CHUNK_RECORDS + 1))
+                    .isEqualTo(OffHeapVector.CHUNK_RECORDS + 1);
+            assertThat(updated.get(OffHeapVector.CHUNK_RECORDS + 1)).isEqualTo(-1);
+            assertThat(updated.get(OffHeapVector.CHUNK_RECORDS))
+                    .isEqualTo(OffHeapVector.CHUNK_RECORDS);
+            assertThat(updated.get(size - 1)).isEqualTo(size - 1);
+            assertThat(arena.allocatedBytes() - before)
+                    .isEqualTo(OffHeapVector.CHUNK_RECORDS * Integer.BYTES);
+            assertThatThrownBy(() -> vector.get(size))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    public void canDoMapAndFold() {
+        try (OffHeapArena arena = OffHeapArena.create()) {
+            OffHeapVector<Long> vector =
+                    OffHeapVector.tabulate(arena, Layout.LONG, 100_000, i -> (long) i);
+            OffHeapVector<Double> halves = vector.map(Layout.DOUBLE, x -> x / 2.0);
+
+            assertThat(vector.foldLeft(0L, (acc, ele) -> acc + ele)).isEqualTo(4_999_950_000L);
+            assertThat(halves.get(3)).isEqualTo(1.5);
+            assertThat(halves.foldLeft(0.0, (acc, ele) -> acc + ele)).isEqualTo(2_499_975_000.0);
+        }
+    }
+
+    @Test
+    public void canUseCustomLayout() {
+        Layout<Tuple2<Integer, Long>> pair = Layout.of(12,
+                (buffer, offset) -> Tuple.of(buffer.getInt(offset), buffer.getLong(offset + 4)),
+                (buffer, offset, value) -> buffer.putInt(offset, value._1)
+                        .putLong(offset + 4, value._2));
+
+        try (OffHeapArena arena = OffHeapArena.create()) {
+            OffHeapVector<Tuple2<Integer, Long>> vector = OffHeapVector.ofAll(arena, pair,
+                    List.of(Tuple.of(1, 10L), Tuple.of(2, 20L)));
+            assertThat(vector.update(0, Tuple.of(3, 30L)).toVector())
+                    .isEqualTo(Vector.of(Tuple.of(3, 30L), Tuple.of(2, 20L)));
+        }
+    }
+
+    @Test
+    public void canMapIntoAnotherArena() {
+        OffHeapArena source = OffHeapArena.create();
+        OffHeapVector<Integer> vector = OffHeapVector.ofAll(source, Layout.INT,
+                List.of(1, 2, 3));
+        try (OffHeapArena target = OffHeapArena.create()) {
+            OffHeapVector<Long> mapped = vector.map(target, Layout.LONG, x -> x * 10L);
+            source.close();
+
+            assertThat(mapped.toVector()).isEqualTo(Vector.of(10L, 20L, 30L));
+        }
+    }
+
+    @Test
+    public void shouldRejectAccessAfterClose() {
+        OffHeapArena arena = OffHeapArena.create();
+        OffHeapVector<Integer> vector = OffHeapVector.ofAll(arena, Layout.INT,
+                List.of(1, 2, 3));
+        arena.close();
+
+        assertThat(arena.isOpen()).isFalse();
+        assertThatThrownBy(() -> vector.get(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> vector.foldLeft(0, (acc, ele) -> acc + ele))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> vector.update(0, 5)).isInstanceOf(IllegalStateException.class);
+    }
+}
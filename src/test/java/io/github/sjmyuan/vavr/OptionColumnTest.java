@@ -0,0 +1,107 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.Function2;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.Arrays;
+
+public class OptionColumnTest {
+
+    private static final List<Option<Integer>> CELLS = List.range(0, 200)
+            .map(i -> i % 3 == 0 ? Option.<Integer>none() : Option.some(i - 100));
+
+    @Test
+    public void shouldConvertNullToNone() {
+        IntOptionColumn column = IntOptionColumn.ofNullable(Arrays.asList(1, null, 3));
+
+        assertThat(column.toList())
+                .isEqualTo(List.of(Option.some(1), Option.none(), Option.some(3)));
+        assertThat(OptionColumn.ofNullable(Arrays.asList("a", null)).toList())
+                .isEqualTo(List.of(Option.some("a"), Option.none()));
+    }
+
+    @Test
+    public void shouldMatchOptionCellByCell() {
+        IntOptionColumn ints = IntOptionColumn.ofAll(CELLS);
+        OptionColumn<Integer> boxed = OptionColumn.ofAll(CELLS);
+
+        assertThat(ints.toList()).isEqualTo(CELLS);
+        assertThat(ints.countDefined()).isEqualTo(CELLS.count(Option::isDefined));
+        assertThat(ints.map(x -> x * 2).toList()).isEqualTo(CELLS.map(o -> o.map(x -> x * 2)));
+        assertThat(boxed.map(x -> "v" + x).toList()).isEqualTo(CELLS.map(o -> o.map(x -> "v" + x)));
+        assertThat(ints.filter(x -> x > 0).toList())
+                .isEqualTo(CELLS.map(o -> o.filter(x -> x > 0)));
+        assertThat(boxed.filter(x -> x > 0).toList())
+                .isEqualTo(CELLS.map(o -> o.filter(x -> x > 0)));
+        assertThat(ints.flatMap(x -> x % 2 == 0 ? Option.some(x) : Option.none()).toList())
+                .isEqualTo(CELLS.map(o -> o.flatMap(x -> x % 2 == 0 ? Option.some(x)
+                        : Option.none())));
+        assertThat(Vector.ofAll(ints.getOrElse(-1))).isEqualTo(CELLS.map(o -> o.getOrElse(-1))
+                .toVector());
+        assertThat(boxed.getOrElse(-1)).isEqualTo(CELLS.map(o -> o.getOrElse(-1)).toVector());
+        assertThat(Vector.ofAll(ints.fold(0, x -> x + 1)))
+                .isEqualTo(CELLS.map(o -> o.fold(() -> 0, x -> x + 1)).toVector());
+        assertThat(boxed.fold(() -> "none", String::valueOf))
+                .isEqualTo(CELLS.map(o -> o.fold(() -> "none", String::valueOf)).toVector());
+    }
+
+    @Test
+    public void shouldFoldOnlyDefinedValues() {
+        IntOptionColumn ints = IntOptionColumn.ofAll(CELLS);
+        int expected = CELLS.flatMap(o -> o).sum().intValue();
+
+        assertThat(ints.foldLeft(0, Integer::sum)).isEqualTo(expected);
+        assertThat(OptionColumn.ofAll(CELLS).foldLeft(0, Integer::sum)).isEqualTo(expected);
+        assertThat(ints.boxed()).isEqualTo(OptionColumn.ofAll(CELLS));
+        assertThat(ints.boxed().mapToInt(x -> x)).isEqualTo(ints);
+    }
+
+    @Test
+    public void canLiftThePartialFunction() {
+        Function2<Integer, Integer, Integer> division = (x, y) -> x / y;
+        IntOptionColumn x = IntOptionColumn.ofNullable(Arrays.asList(1, 6, null, 8));
+        IntOptionColumn y = IntOptionColumn.ofNullable(Arrays.asList(0, 3, 1, null));
+        List<Option<Integer>> expected =
+                List.of(Option.none(), Option.some(2), Option.none(), Option.none());
+
+        assertThat(IntOptionColumn.lift(division).apply(x, y).toList()).isEqualTo(expected);
+        assertThat(x.zipWith(y, (a, b) -> a / b, (a, b) -> b != 0).toList()).isEqualTo(expected);
+        assertThat(OptionColumn.lift(division).apply(x.boxed(), y.boxed()).toList())
+                .isEqualTo(expected);
+        assertThat(x.zipWith(y, (a, b) -> a / b, (a, b) -> b != 0))
+                .isEqualTo(IntOptionColumn.lift(division).apply(x, y));
+    }
+
+    @Test
+    public void shouldKeepSomeNullInObjectColumns() {
+        OptionColumn<String> column = OptionColumn.ofAll(List.of(Option.some("a"), Option.none()));
+
+        assertThat(column.map(s -> (String) null).toList())
+                .isEqualTo(List.of(Option.some(null), Option.none()));
+    }
+
+    @Test
+    public void shouldTurnSomeNullIntoUndefinedIntCells() {
+        IntOptionColumn column = IntOptionColumn.ofNullable(Arrays.asList(1, 2, null));
+        List<Option<Integer>> expected = List.of(Option.some(1), Option.none(), Option.none());
+
+        assertThat(IntOptionColumn.tabulate(3, i -> i == 0 ? Option.some(1) : Option.some(null))
+                .toList()).isEqualTo(expected);
+        assertThat(column.flatMap(x -> x == 1 ? Option.some(x) : Option.some(null)).toList())
+                .isEqualTo(expected);
+        assertThat(IntOptionColumn.lift((x, y) -> x == 1 ? x * y : null).apply(column, column)
+                .toList()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldRejectColumnsOfDifferentSize() {
+        IntOptionColumn column = IntOptionColumn.ofNullable(Arrays.asList(1, 2));
+
+        assertThatThrownBy(() -> column.zipWith(IntOptionColumn.ofNullable(Arrays.asList(1)),
+                (a, b) -> Option.some(a + b))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.Vector;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParOpsTest {
+
+    private final Vector<Integer> bigVector = Vector.range(0, 100_000);
+
+    @Test
+    public void canDoFold() {
+        Vector<Integer> intVector = Vector.of(1, 2, 3);
+        assertThat(ParOps.foldMap(intVector, Monoid.intSum())).isEqualTo(6);
+
+        assertThat(ParOps.foldMap(bigVector, x -> (long) x, Monoid.longSum()))
+                .isEqualTo(bigVector.foldLeft(0L, (acc, ele) -> acc + ele));
+    }
+
+    @Test
+    public void canDoFoldForEmptyVector() {
+        assertThat(ParOps.foldMap(Vector.<Integer>empty(), Monoid.intSum())).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldKeepOrderForNonCommutativeFold() {
+        Vector<String> strings = bigVector.map(x -> Integer.toString(x % 10));
+        Monoid<String> concat = Monoid.of("", String::concat);
+
+        assertThat(ParOps.foldMap(strings, concat)).isEqualTo(strings.mkString());
+    }
+
+    @Test
+    public void canDoMap() {
+        Vector<Integer> intVector = Vector.of(1, 2, 3);
+        assertThat(ParOps.map(intVector, x -> x + 1)).isEqualTo(Vector.of(2, 3, 4));
+
+        assertThat(ParOps.map(bigVector, x -> x * 2)).isEqualTo(bigVector.map(x -> x * 2));
+    }
+
+    @Test
+    public void canDoFilter() {
+        Vector<Integer> intVector = Vector.of(1, 2, 3);
+        assertThat(ParOps.filter(intVector, x -> x < 2)).isEqualTo(Vector.of(1));
+
+        assertThat(ParOps.filter(bigVector, x -> x % 3 == 0))
+                .isEqualTo(bigVector.filter(x -> x % 3 == 0));
+    }
+
+    @Test
+    public void canRunInCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThat(ParOps.map(pool, bigVector, x -> x + 1)).isEqualTo(bigVector.map(x -> x + 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
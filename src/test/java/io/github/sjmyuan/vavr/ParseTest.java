@@ -0,0 +1,71 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParseTest {
+
+    @Test
+    public void canParseValidInt() {
+        assertThat(Parse.intTry("1")).isEqualTo(Try.success(1));
+        assertThat(Parse.intTry("-42")).isEqualTo(Try.success(-42));
+        assertThat(Parse.intTry("+7")).isEqualTo(Try.success(7));
+        assertThat(Parse.intTry(String.valueOf(Integer.MAX_VALUE)))
+                .isEqualTo(Try.success(Integer.MAX_VALUE));
+        assertThat(Parse.intTry(String.valueOf(Integer.MIN_VALUE)))
+                .isEqualTo(Try.success(Integer.MIN_VALUE));
+        assertThat(Parse.intEither(new StringBuilder("123"))).isEqualTo(Either.right(123));
+    }
+
+    @Test
+    public void canHandleInvalidInt() {
+        assertThat(Parse.intTry("a").getCause()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Parse.intTry("a").getCause()).isInstanceOf(NumberFormatException.class);
+        assertThat(Parse.intEither("a")).isEqualTo(Either.left(ParseError.INVALID_CHARACTER));
+        assertThat(Parse.intEither("")).isEqualTo(Either.left(ParseError.EMPTY));
+        assertThat(Parse.intEither("-")).isEqualTo(Either.left(ParseError.INVALID_CHARACTER));
+        assertThat(Parse.intEither("2147483648")).isEqualTo(Either.left(ParseError.OVERFLOW));
+        assertThat(Parse.intEither("-2147483649")).isEqualTo(Either.left(ParseError.OVERFLOW));
+        assertThat(Parse.intEither("99999999999999999999999"))
+                .isEqualTo(Either.left(ParseError.OVERFLOW));
+    }
+
+    @Test
+    public void canParseLong() {
+        assertThat(Parse.longTry("9223372036854775807")).isEqualTo(Try.success(Long.MAX_VALUE));
+        assertThat(Parse.longEither("-9223372036854775808")).isEqualTo(Either.right(Long.MIN_VALUE));
+        assertThat(Parse.longEither("9223372036854775808"))
+                .isEqualTo(Either.left(ParseError.OVERFLOW));
+        assertThat(Parse.longTry("1x").getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldAgreeWithIntegerValueOf() {
+        String[] inputs = {"0", "-0", "00012", "+", "1-", "12a", " 1", "2147483647", "-2147483648"};
+        for (String input : inputs) {
+            Try<Integer> expected = Try.of(() -> Integer.valueOf(input));
+            Try<Integer> actual = Parse.intTry(input);
+            assertThat(actual.isSuccess()).as(input).isEqualTo(expected.isSuccess());
+            if (expected.isSuccess()) {
+                assertThat(actual.get()).as(input).isEqualTo(expected.get());
+            }
+        }
+    }
+
+    @Test
+    public void shouldReuseStacklessFailures() {
+        Try<Integer> failure = Parse.intTry("a");
+        assertThat(Parse.intTry("b")).isSameAs(failure);
+        assertThat(failure.getCause().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void canDoFlatMapLikeTryOf() {
+        Try<Integer> sum = Parse.intTry("1").flatMap(x -> Parse.intTry("2").map(y -> x + y));
+        assertThat(sum).isEqualTo(Try.success(3));
+        assertThat(Parse.intTry("1").flatMap(x -> Parse.intTry("a").map(y -> x + y)).getCause())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.Function1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PipelineTest {
+
+    @Test
+    public void canBeComposed() {
+        Function1<String, String> add1 = x -> x + "1";
+        Function1<String, String> add2 = x -> x + "2";
+
+        assertThat(Pipeline.of(add1).compose(add2).apply("0")).isEqualTo("021");
+        assertThat(Pipeline.of(add1).andThen(add2).apply("0")).isEqualTo("012");
+    }
+
+    @Test
+    public void shouldMatchAndThenSemantics() {
+        Function1<Integer, Integer> chain = Function1.identity();
+        Pipeline<Integer, Integer> pipeline = Pipeline.identity();
+        for (int i = 0; i < 500; i++) {
+            int stage = i;
+            Function1<Integer, Integer> f = x -> x * 31 + stage;
+            chain = chain.andThen(f);
+            pipeline = pipeline.andThen(f);
+        }
+
+        assertThat(pipeline.size()).isEqualTo(500);
+        for (int x = -5; x < 5; x++) {
+            assertThat(pipeline.apply(x)).isEqualTo(chain.apply(x));
+        }
+    }
+
+    @Test
+    public void canChangeTypesBetweenStages() {
+        Pipeline<String, String> pipeline = Pipeline.<String, Integer>of(Integer::valueOf)
+                .andThen(x -> x + 1)
+                .andThen(x -> x.toString());
+
+        assertThat(pipeline.apply("41")).isEqualTo("42");
+    }
+
+    @Test
+    public void shouldSpliceNestedPipelinesAndDropIdentity() {
+        Function1<Integer, Integer> inner = Pipeline.<Integer, Integer>of(x -> x + 1)
+                .andThen(x -> x * 2)
+                .toFunction();
+
+        Pipeline<Integer, Integer> pipeline = Pipeline.<Integer>identity()
+                .andThen(Function1.identity())
+                .andThen(inner)
+                .andThen(inner);
+
+        assertThat(pipeline.size()).isEqualTo(4);
+        assertThat(pipeline.apply(1)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldNotGrowTheStackWithManyStages() {
+        Pipeline.Builder<Integer, Integer> builder = Pipeline.builder();
+        for (int i = 0; i < 1_000_000; i++) {
+            builder = builder.then(x -> x + 1);
+        }
+        assertThat(builder.build().apply(0)).isEqualTo(1_000_000);
+    }
+}
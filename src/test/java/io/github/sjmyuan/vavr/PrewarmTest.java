@@ -0,0 +1,67 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public class PrewarmTest {
+
+    private static final String[] WARMED = {
+        "io.vavr.API$Match", "io.vavr.control.Try", "io.vavr.control.Either",
+        "io.vavr.control.Validation", "io.vavr.collection.Vector", "io.vavr.collection.HashMap",
+        "io.vavr.Tuple2", "io.vavr.concurrent.Promise"
+    };
+
+    // Loads the classes itself, so the other tests of this JVM cannot have loaded them already.
+    private static final class IsolatedLoader extends URLClassLoader {
+        IsolatedLoader() {
+            super(classPath(), ClassLoader.getPlatformClassLoader());
+        }
+
+        boolean isLoaded(String name) {
+            return findLoadedClass(name) != null;
+        }
+
+        private static URL[] classPath() {
+            return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                    .map(entry -> {
+                        try {
+                            return Paths.get(entry).toUri().toURL();
+                        } catch (MalformedURLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toArray(URL[]::new);
+        }
+    }
+
+    @Test
+    public void shouldLoadTheExercisedPaths() throws Exception {
+        try (IsolatedLoader loader = new IsolatedLoader()) {
+            Class<?> prewarm = loader.loadClass(Prewarm.class.getName());
+            for (String name : WARMED) {
+                assertThat(loader.isLoaded(name)).as(name).isFalse();
+            }
+
+            prewarm.getMethod("run", int.class).invoke(null, 1);
+
+            for (String name : WARMED) {
+                assertThat(loader.isLoaded(name)).as(name).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void canRunInBackground() throws InterruptedException {
+        Thread thread = Prewarm.inBackground();
+        thread.join();
+
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(thread.getName()).startsWith("prewarm-");
+    }
+}
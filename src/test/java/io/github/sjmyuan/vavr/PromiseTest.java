@@ -1,5 +1,68 @@
 package io.github.sjmyuan.vavr;
 
+import org.junit.Test;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.ArrayList;
+import java.util.List;
+
 public class PromiseTest {
-    
+
+    @Test
+    public void canBeCompletedWithSuccess() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        Future<Integer> future = promise.future();
+        assertThat(future.isCompleted()).isFalse();
+
+        promise.success(1);
+
+        assertThat(future.isCompleted()).isTrue();
+        assertThat(future.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void canBeCompletedWithFailure() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        promise.failure(new Exception("Error"));
+
+        assertThat(promise.future().getCause().get()).hasMessageContaining("Error");
+    }
+
+    @Test
+    public void canOnlyBeCompletedOnce() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        promise.success(1);
+
+        assertThat(promise.trySuccess(2)).isFalse();
+        assertThatThrownBy(() -> promise.success(3)).isInstanceOf(IllegalStateException.class);
+        assertThat(promise.future().get()).isEqualTo(1);
+    }
+
+    @Test
+    public void canBeCompletedWithTry() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        promise.complete(Try.success(1));
+        assertThat(promise.future().get()).isEqualTo(1);
+    }
+
+    @Test
+    public void canBeCompletedWithOtherFuture() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        promise.completeWith(Future.successful(FutureExecutors.direct(), 1));
+        assertThat(promise.future().get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRunCallbacksOnTheCompletingThreadWithDirectExecutor() {
+        Promise<Integer> promise = Promise.make(FutureExecutors.direct());
+        List<Thread> threads = new ArrayList<>();
+        promise.future().onComplete(x -> threads.add(Thread.currentThread()));
+
+        promise.success(1);
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
 }
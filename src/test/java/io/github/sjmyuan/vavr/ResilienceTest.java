@@ -0,0 +1,385 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.CheckedFunction0;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResilienceTest {
+
+    /**
+     * Runs submitted work inline and scheduled work only when the test advances the clock.
+     */
+    private static final class VirtualScheduler extends AbstractExecutorService
+            implements ScheduledExecutorService {
+        private final PriorityQueue<Scheduled> queue = new PriorityQueue<>();
+        private long now;
+
+        long nanos() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            long target = now + duration.toNanos();
+            while (!queue.isEmpty() && queue.peek().at <= target) {
+                Scheduled next = queue.poll();
+                now = next.at;
+                next.command.run();
+            }
+            now = target;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Scheduled scheduled = new Scheduled(now + unit.toNanos(delay), command);
+            queue.add(scheduled);
+            return scheduled;
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay,
+                long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay,
+                long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        private final class Scheduled implements ScheduledFuture<Object> {
+            final long at;
+            final Runnable command;
+
+            Scheduled(long at, Runnable command) {
+                this.at = at;
+                this.command = command;
+            }
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(at - now, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public int compareTo(Delayed other) {
+                return Long.compare(at, ((Scheduled) other).at);
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return queue.remove(this);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public boolean isDone() {
+                return !queue.contains(this);
+            }
+
+            @Override
+            public Object get() {
+                return null;
+            }
+
+            @Override
+            public Object get(long timeout, TimeUnit unit) {
+                return null;
+            }
+        }
+    }
+
+    private final VirtualScheduler scheduler = new VirtualScheduler();
+    private final TaskRuntime runtime = TaskRuntime.of(scheduler, scheduler, scheduler);
+
+    private Task<Integer> failingTimes(int failures, AtomicInteger calls, List<Long> callTimes) {
+        return Task.of(() -> {
+            callTimes.add(scheduler.nanos());
+            if (calls.incrementAndGet() <= failures) {
+                throw new IOException("attempt " + calls.get());
+            }
+            return calls.get();
+        });
+    }
+
+    @Test
+    public void canRetryWithExponentialBackoff() {
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(4)
+                .initialDelay(Duration.ofMillis(100)).multiplier(2).jitter(0).build();
+        AtomicInteger calls = new AtomicInteger();
+        List<Long> callTimes = new ArrayList<>();
+
+        Future<Integer> result = failingTimes(3, calls, callTimes).retry(policy).runAsync(runtime);
+
+        assertThat(calls.get()).isEqualTo(1);
+        scheduler.advance(Duration.ofMillis(99));
+        assertThat(calls.get()).isEqualTo(1);
+        scheduler.advance(Duration.ofSeconds(1));
+        assertThat(result.getValue()).isEqualTo(Option.some(Try.success(4)));
+        assertThat(callTimes).containsExactly(0L, 100_000_000L, 300_000_000L, 700_000_000L);
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxAttempts() {
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3)
+                .initialDelay(Duration.ofMillis(10)).jitter(0).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        Future<Integer> result = failingTimes(10, calls, new ArrayList<>()).retry(policy)
+                .runAsync(runtime);
+        scheduler.advance(Duration.ofSeconds(1));
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(result.getValue().get().getCause()).hasMessage("attempt 3");
+    }
+
+    @Test
+    public void shouldOnlyRetryMatchingFailures() {
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(5)
+                .retryOn(error -> !(error instanceof IOException)).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        Future<Integer> result = failingTimes(10, calls, new ArrayList<>()).retry(policy)
+                .runAsync(runtime);
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(result.getValue().get().getCause()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void canCapAndJitterDelays() {
+        RetryPolicy policy = RetryPolicy.builder().initialDelay(Duration.ofSeconds(1))
+                .multiplier(10).maxDelay(Duration.ofSeconds(5)).jitter(0.5)
+                .random(() -> 0.5).build();
+
+        assertThat(policy.delay(1)).isEqualTo(Duration.ofMillis(750));
+        assertThat(policy.delay(2)).isEqualTo(Duration.ofMillis(3750));
+        assertThat(policy.delay(10)).isEqualTo(Duration.ofMillis(3750));
+    }
+
+    @Test
+    public void circuitBreakerShouldOpenAndRecover() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(3)
+                .openDuration(Duration.ofSeconds(30)).ticker(scheduler::nanos).build();
+        AtomicInteger calls = new AtomicInteger();
+        CheckedFunction0<Integer> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException("down");
+        };
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryOf(failing).getCause()).isInstanceOf(IOException.class);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryOf(failing).getCause())
+                .isSameAs(CallRejectedException.CIRCUIT_OPEN);
+        assertThat(calls.get()).isEqualTo(3);
+
+        scheduler.advance(Duration.ofSeconds(30));
+        assertThat(breaker.tryOf(failing).getCause()).isInstanceOf(IOException.class);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls.get()).isEqualTo(4);
+
+        scheduler.advance(Duration.ofSeconds(30));
+        assertThat(breaker.tryOf(() -> 1)).isEqualTo(Try.success(1));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void circuitBreakerShouldCountConsecutiveFailures() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(2)
+                .recordFailure(error -> error instanceof IOException)
+                .ticker(scheduler::nanos).build();
+
+        breaker.tryOf(() -> {
+            throw new IOException();
+        });
+        breaker.tryOf(() -> 1);
+        breaker.tryOf(() -> {
+            throw new IOException();
+        });
+        breaker.tryOf(() -> {
+            throw new IllegalStateException();
+        });
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        Either<String, Integer> left =
+                breaker.either(() -> Either.left("bad"), e -> e.getMessage());
+        assertThat(left).isEqualTo(Either.left("bad"));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.<String, Integer>either(() -> Either.right(1), e -> e.getMessage()))
+                .isEqualTo(Either.left("circuit breaker is open"));
+    }
+
+    @Test
+    public void circuitBreakerCanProtectTasks() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(1)
+                .ticker(scheduler::nanos).build();
+
+        Try<Object> failed = breaker.protect(Task.failed(new IOException())).runSync(runtime);
+        Try<Integer> rejected = breaker.protect(Task.successful(1)).runSync(runtime);
+
+        assertThat(failed.getCause()).isInstanceOf(IOException.class);
+        assertThat(rejected.getCause()).isSameAs(CallRejectedException.CIRCUIT_OPEN);
+    }
+
+    @Test
+    public void unrecordedFailureShouldEndHalfOpenTrial() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(1)
+                .openDuration(Duration.ofSeconds(30))
+                .recordFailure(error -> error instanceof IOException)
+                .ticker(scheduler::nanos).build();
+
+        breaker.tryOf(() -> {
+            throw new IOException();
+        });
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        scheduler.advance(Duration.ofSeconds(30));
+        assertThat(breaker.tryOf(() -> {
+            throw new IllegalStateException();
+        }).getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryOf(() -> 1)).isEqualTo(Try.success(1));
+    }
+
+    @Test
+    public void cancelledTrialShouldNotKeepBreakerHalfOpen() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(1)
+                .openDuration(Duration.ofSeconds(30)).ticker(scheduler::nanos).build();
+        breaker.protect(Task.failed(new IOException())).runSync(runtime);
+
+        scheduler.advance(Duration.ofSeconds(30));
+        Future<Integer> trial = breaker.protect(Task.sleep(Duration.ofMinutes(1)).map(x -> 1))
+                .runAsync(runtime);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        trial.cancel();
+        assertThat(breaker.protect(Task.successful(1)).runSync(runtime).getCause())
+                .isSameAs(CallRejectedException.CIRCUIT_OPEN);
+
+        scheduler.advance(Duration.ofSeconds(30));
+        assertThat(breaker.protect(Task.successful(1)).runSync(runtime))
+                .isEqualTo(Try.success(1));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        scheduler.advance(Duration.ofMinutes(1));
+        assertThat(trial.isCancelled()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void bulkheadShouldRejectBeyondLimit() {
+        Bulkhead bulkhead = Bulkhead.of(2);
+        Task<Integer> slow = Task.sleep(Duration.ofSeconds(1)).map(x -> 1);
+
+        Future<Integer> first = bulkhead.protect(slow).runAsync(runtime);
+        Future<Integer> second = bulkhead.protect(slow).runAsync(runtime);
+        Future<Integer> third = bulkhead.protect(slow).runAsync(runtime);
+
+        assertThat(bulkhead.available()).isEqualTo(0);
+        assertThat(third.getValue().get().getCause())
+                .isSameAs(CallRejectedException.BULKHEAD_FULL);
+        assertThat(bulkhead.tryOf(() -> 1).getCause())
+                .isSameAs(CallRejectedException.BULKHEAD_FULL);
+
+        scheduler.advance(Duration.ofSeconds(1));
+        assertThat(first.getValue()).isEqualTo(Option.some(Try.success(1)));
+        assertThat(second.getValue()).isEqualTo(Option.some(Try.success(1)));
+        assertThat(bulkhead.available()).isEqualTo(2);
+        assertThat(bulkhead.tryOf(() -> 1)).isEqualTo(Try.success(1));
+    }
+
+    @Test
+    public void timedOutTaskShouldReturnBulkheadPermit() {
+        Bulkhead bulkhead = Bulkhead.of(2);
+        Task<Integer> slow = Task.sleep(Duration.ofMillis(200)).map(x -> 1);
+
+        Future<Integer> first = bulkhead.protect(slow).timeout(Duration.ofMillis(20))
+                .runAsync(runtime);
+        Future<Integer> second = bulkhead.protect(slow).timeout(Duration.ofMillis(20))
+                .runAsync(runtime);
+        assertThat(bulkhead.available()).isEqualTo(0);
+
+        scheduler.advance(Duration.ofMillis(20));
+        assertThat(first.getValue().get().getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(second.getValue().get().getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(bulkhead.available()).isEqualTo(2);
+
+        Future<Integer> third = bulkhead.protect(slow).runAsync(runtime);
+        scheduler.advance(Duration.ofSeconds(1));
+        assertThat(third.getValue()).isEqualTo(Option.some(Try.success(1)));
+        assertThat(bulkhead.available()).isEqualTo(2);
+    }
+
+    @Test
+    public void retryCanWrapCircuitBreaker() {
+        CircuitBreaker breaker = CircuitBreaker.builder().failureThreshold(2)
+                .openDuration(Duration.ofSeconds(5)).ticker(scheduler::nanos).build();
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(5)
+                .initialDelay(Duration.ofSeconds(2)).multiplier(1).jitter(0).build();
+        AtomicInteger calls = new AtomicInteger();
+
+        Future<Integer> result = breaker.protect(failingTimes(2, calls, new ArrayList<>()))
+                .retry(policy).runAsync(runtime);
+        scheduler.advance(Duration.ofSeconds(20));
+
+        // fails at 0s and 2s, is rejected at 4s, runs the half-open trial at 6s
+        assertThat(result.getValue()).isEqualTo(Option.some(Try.success(3)));
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
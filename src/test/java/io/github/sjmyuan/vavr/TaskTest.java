@@ -1,5 +1,154 @@
 package io.github.sjmyuan.vavr;
 
+import org.junit.AfterClass;
+import org.junit.Test;
+import io.vavr.concurrent.Future;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class TaskTest {
-    
+
+    private static final TaskRuntime runtime = TaskRuntime.create(4);
+
+    @AfterClass
+    public static void closeRuntime() {
+        runtime.close();
+    }
+
+    @Test
+    public void shouldBeLazy() {
+        AtomicInteger counter = new AtomicInteger();
+        Task<Integer> task = Task.of(() -> counter.incrementAndGet());
+        assertThat(counter.get()).isEqualTo(0);
+
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success(1));
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success(2));
+    }
+
+    @Test
+    public void canDoMap() {
+        assertThat(Task.successful(1).map(x -> x + 1).runSync(runtime)).isEqualTo(Try.success(2));
+    }
+
+    @Test
+    public void canDoFlatMap() {
+        Task<Integer> task = Task.successful(1).flatMap(x -> Task.of(() -> x + 1));
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success(2));
+    }
+
+    @Test
+    public void canAttemptFailure() {
+        Task<Integer> task = Task.of(() -> Integer.parseInt("a"));
+
+        assertThat(task.runSync(runtime).getCause()).isInstanceOf(NumberFormatException.class);
+        assertThat(task.attempt().runSync(runtime).get().getCause())
+                .isInstanceOf(NumberFormatException.class);
+        assertThat(Task.successful(1).attempt().runSync(runtime))
+                .isEqualTo(Try.success(Try.success(1)));
+    }
+
+    @Test
+    public void shouldSkipFlatMapAfterFailure() {
+        AtomicInteger counter = new AtomicInteger();
+        Task<Integer> task = Task.<Integer>failed(new Exception("Error"))
+                .map(x -> counter.incrementAndGet())
+                .recover(e -> -1);
+
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success(-1));
+        assertThat(counter.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void canRunBlockingSteps() {
+        Task<String> task = Task.blocking(() -> {
+            Thread.sleep(10);
+            return "done";
+        }).map(x -> x + "!");
+
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success("done!"));
+    }
+
+    @Test
+    public void shouldBeStackSafeForDeepFlatMap() {
+        Task<Integer> task = Task.successful(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            task = task.flatMap(x -> Task.successful(x + 1));
+        }
+        assertThat(task.runSync(runtime)).isEqualTo(Try.success(1_000_000));
+    }
+
+    @Test
+    public void shouldBeStackSafeForRecursiveFlatMap() {
+        assertThat(countDown(1_000_000).runSync(runtime)).isEqualTo(Try.success(0));
+    }
+
+    private Task<Integer> countDown(int n) {
+        return n == 0 ? Task.successful(0) : Task.successful(n - 1).flatMap(this::countDown);
+    }
+
+    @Test
+    public void canTimeout() {
+        Task<Void> slow = Task.sleep(Duration.ofSeconds(10));
+        assertThat(slow.timeout(Duration.ofMillis(20)).runSync(runtime).getCause())
+                .isInstanceOf(TimeoutException.class);
+
+        Task<Integer> fast = Task.successful(1);
+        assertThat(fast.timeout(Duration.ofSeconds(10)).runSync(runtime)).isEqualTo(Try.success(1));
+    }
+
+    @Test
+    public void canBeCancelled() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Task<Integer> task = Task.sleep(Duration.ofMillis(50)).map(x -> counter.incrementAndGet());
+
+        Future<Integer> future = task.runAsync(runtime);
+        future.cancel();
+        Thread.sleep(100);
+
+        assertThat(future.getValue().get().getCause()).isInstanceOf(CancellationException.class);
+        assertThat(counter.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldRunGuaranteeOnceOnEveryOutcome() throws InterruptedException {
+        AtomicInteger finalized = new AtomicInteger();
+
+        assertThat(Task.successful(1).guarantee(finalized::incrementAndGet).runSync(runtime))
+                .isEqualTo(Try.success(1));
+        assertThat(Task.<Integer>failed(new IllegalStateException())
+                .guarantee(finalized::incrementAndGet).runSync(runtime).isFailure()).isTrue();
+        assertThat(finalized.get()).isEqualTo(2);
+
+        Future<Integer> cancelled = Task.sleep(Duration.ofMillis(50)).map(x -> 1)
+                .guarantee(finalized::incrementAndGet).runAsync(runtime);
+        cancelled.cancel();
+        Thread.sleep(100);
+        assertThat(finalized.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void canRunManyConcurrentTasks() {
+        int count = 100_000;
+        List<Future<Integer>> futures = new ArrayList<>(count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            futures.add(Task.sleep(Duration.ofMillis(100)).map(x -> value).runAsync(runtime));
+        }
+        long sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(sum).isEqualTo((long) count * (count - 1) / 2);
+        // every task sleeps 100ms, so running them one at a time would take hours
+        assertThat(elapsedMillis).isLessThan(30_000);
+    }
 }
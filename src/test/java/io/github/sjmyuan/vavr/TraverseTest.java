@@ -0,0 +1,100 @@
+package io.github.sjmyuan.vavr;
+
+import org.junit.Test;
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TraverseTest {
+
+    @Test
+    public void canDoSequenceForOption() {
+        List<Option<Integer>> intList = List.of(Option.some(1), Option.some(2), Option.some(3));
+        assertThat(Traverse.sequenceOption(intList)).isEqualTo(Option.some(List.of(1, 2, 3)));
+        assertThat(Traverse.sequenceOption(intList)).isEqualTo(Option.sequence(intList));
+
+        List<Option<Integer>> intList2 = List.of(Option.some(1), Option.some(2), Option.none());
+        assertThat(Traverse.sequenceOption(intList2)).isEqualTo(Option.none());
+
+        assertThat(Traverse.sequenceOption(List.<Option<Integer>>empty()))
+                .isEqualTo(Option.sequence(List.<Option<Integer>>empty()));
+    }
+
+    @Test
+    public void canDoTraverseForOption() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(Traverse.traverseOption(intList, x -> Option.some(x)))
+                .isEqualTo(Option.some(List.of(1, 2, 3)));
+
+        assertThat(Traverse.traverseOption(intList, x -> x > 1 ? Option.some(x) : Option.none()))
+                .isEqualTo(Option.none());
+    }
+
+    @Test
+    public void shouldStopAtFirstNone() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> intList = List.of(1, 2, 3, 4);
+
+        Traverse.traverseOption(intList, x -> {
+            calls.incrementAndGet();
+            return x < 2 ? Option.some(x) : Option.none();
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void canDoSequenceForTry() {
+        List<Try<Integer>> intList = List.of(Try.success(1), Try.success(2));
+        assertThat(Traverse.sequenceTry(intList)).isEqualTo(Try.success(List.of(1, 2)));
+
+        Exception error = new Exception("Error");
+        List<Try<Integer>> intList2 =
+                List.of(Try.success(1), Try.failure(error), Try.failure(new Exception("Other")));
+        assertThat(Traverse.sequenceTry(intList2).getCause()).isSameAs(error);
+        assertThat(Traverse.sequenceTry(intList2).getCause())
+                .isSameAs(Try.sequence(intList2).getCause());
+    }
+
+    @Test
+    public void canDoTraverseForTry() {
+        List<String> strList = List.of("1", "2");
+        assertThat(Traverse.traverseTry(strList, x -> Try.of(() -> Integer.valueOf(x))))
+                .isEqualTo(Try.success(List.of(1, 2)));
+
+        assertThat(Traverse.traverseTry(List.of("1", "a"), x -> Try.of(() -> Integer.valueOf(x)))
+                .getCause()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void canDoSequenceForEither() {
+        List<Either<String, Integer>> intList = List.of(Either.right(1), Either.right(2));
+        assertThat(Traverse.sequenceEither(intList)).isEqualTo(Either.right(List.of(1, 2)));
+
+        List<Either<String, Integer>> intList2 =
+                List.of(Either.right(1), Either.left("Error"), Either.left("Other"));
+        assertThat(Traverse.sequenceEither(intList2)).isEqualTo(Either.left("Error"));
+        assertThat(Traverse.sequenceEither(intList2)).isEqualTo(Either.sequenceRight(intList2));
+    }
+
+    @Test
+    public void canDoTraverseForEither() {
+        List<Integer> intList = List.of(1, 2, 3);
+        assertThat(Traverse.traverseEither(intList, x -> Either.right(x)))
+                .isEqualTo(Either.right(List.of(1, 2, 3)));
+
+        assertThat(Traverse.<String, Integer, Integer>traverseEither(intList,
+                x -> x > 1 ? Either.left("Error " + x) : Either.right(x)))
+                        .isEqualTo(Either.left("Error 2"));
+    }
+
+    @Test
+    public void canTraverseJavaCollections() {
+        java.util.List<Integer> javaList = java.util.Arrays.asList(1, 2, 3);
+        assertThat(Traverse.traverseOption(javaList, x -> Option.some(x * 2)))
+                .isEqualTo(Option.some(List.of(2, 4, 6)));
+    }
+}
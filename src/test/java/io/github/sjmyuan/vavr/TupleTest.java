@@ -1,5 +1,93 @@
 package io.github.sjmyuan.vavr;
 
+import org.junit.Test;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple8;
+import io.vavr.collection.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class TupleTest {
-    
+
+    private static final List<Tuple3<Integer, Long, Double>> ROWS = List.range(0, 100)
+            .map(i -> Tuple.of(i, i * 1000L, i / 4.0));
+
+    @Test
+    public void shouldRoundTripTuple3Rows() {
+        TupleBatch batch = TupleBatch.ofRows(ROWS);
+
+        assertThat(batch.size()).isEqualTo(100);
+        assertThat(batch.arity()).isEqualTo(3);
+        assertThat(batch.columnType(0)).isEqualTo(TupleBatch.ColumnType.INT);
+        assertThat(batch.columnType(1)).isEqualTo(TupleBatch.ColumnType.LONG);
+        assertThat(batch.columnType(2)).isEqualTo(TupleBatch.ColumnType.DOUBLE);
+        assertThat(batch.toRows()).isEqualTo(ROWS);
+        assertThat(batch.<Integer, Long, Double>row3(7)).isEqualTo(ROWS.get(7));
+    }
+
+    @Test
+    public void shouldRoundTripTuple8Rows() {
+        List<Tuple8<Integer, String, Long, Double, Boolean, Integer, Character, String>> rows =
+                List.range(0, 20).map(i -> Tuple.of(i, "s" + i, (long) -i, i * 0.5, i % 2 == 0,
+                        i * i, (char) ('a' + i), i % 3 == 0 ? null : "x"));
+        TupleBatch batch = TupleBatch.ofRows(rows);
+
+        assertThat(batch.toRows()).isEqualTo(rows);
+        assertThat(batch.columnType(1)).isEqualTo(TupleBatch.ColumnType.OBJECT);
+        assertThat(batch.columnType(7)).isEqualTo(TupleBatch.ColumnType.OBJECT);
+        assertThat(batch.row8(3)).isEqualTo(rows.get(3));
+    }
+
+    @Test
+    public void shouldKeepBoxedTypesOfMixedColumns() {
+        List<Tuple2<Number, Integer>> rows = List.of(Tuple.of(1, 1), Tuple.of(2L, 2));
+        TupleBatch batch = TupleBatch.ofRows(rows);
+
+        assertThat(batch.columnType(0)).isEqualTo(TupleBatch.ColumnType.OBJECT);
+        assertThat(batch.toRows()).isEqualTo(rows);
+        assertThat(batch.row2(1)._1).isInstanceOf(Long.class);
+    }
+
+    @Test
+    public void shouldRejectRowsOfDifferentArity() {
+        assertThatThrownBy(() -> TupleBatch.ofRows(List.of(Tuple.of(1), Tuple.of(1, 2))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldMatchRowWiseFilterMapAndFold() {
+        TupleBatch batch = TupleBatch.ofRows(ROWS)
+                .filterInt(0, i -> i % 3 == 0)
+                .mapDouble(2, d -> d * 2);
+
+        List<Tuple3<Integer, Long, Double>> expected = ROWS.filter(t -> t._1 % 3 == 0)
+                .map(t -> t.map3(d -> d * 2));
+        assertThat(batch.toRows()).isEqualTo(expected);
+        assertThat(batch.foldLong(1, 0L, Long::sum))
+                .isEqualTo(expected.foldLeft(0L, (acc, t) -> acc + t._2));
+        assertThat(batch.<Double, Double>foldLeft(2, 0.0, Double::sum))
+                .isEqualTo(batch.foldDouble(2, 0.0, Double::sum));
+    }
+
+    @Test
+    public void shouldProjectWithoutCopying() {
+        TupleBatch batch = TupleBatch.ofRows(ROWS);
+        TupleBatch projected = batch.project(2, 0);
+
+        assertThat(projected.toRows()).isEqualTo(ROWS.map(t -> Tuple.of(t._3, t._1)));
+        assertThat(projected.project(1, 0)).isEqualTo(batch.project(0, 2));
+        assertThat(batch.mapInt(0, i -> -i).getInt(5, 0)).isEqualTo(-5);
+        assertThat(batch.getInt(5, 0)).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldBuildFromColumns() {
+        TupleBatch batch = TupleBatch.ofColumns(new int[] {1, 2}, new Object[] {"a", "b"});
+
+        assertThat(batch.toRows()).isEqualTo(List.of(Tuple.of(1, "a"), Tuple.of(2, "b")));
+        assertThatThrownBy(() -> batch.getLong(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> batch.row3(0)).isInstanceOf(IllegalStateException.class);
+    }
 }
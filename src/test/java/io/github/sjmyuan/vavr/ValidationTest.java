@@ -1,5 +1,117 @@
 package io.github.sjmyuan.vavr;
 
+import org.junit.Test;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.ForkJoinPool;
+
 public class ValidationTest {
-    
+
+    private final RecordValidator validator = RecordValidator.builder()
+            .rule(0, String.class, name -> !name.isEmpty(), "name is empty")
+            .rule(1, Integer.class, age -> age >= 0, "age is negative")
+            .rule(1, Integer.class, age -> age < 150, "age is too large")
+            .rule(2, String.class, email -> email.contains("@"), "email is invalid")
+            .build();
+
+    private Validation<String, String> validateName(String name) {
+        return name.isEmpty() ? Validation.invalid("name is empty") : Validation.valid(name);
+    }
+
+    private Validation<String, Integer> validateAge(Integer age) {
+        return age < 0 ? Validation.invalid("age is negative") : Validation.valid(age);
+    }
+
+    @Test
+    public void canBeConstructedFromAValidValue() {
+        Validation<String, Integer> intValue = Validation.valid(1);
+        assertThat(intValue.isValid()).isTrue();
+        assertThat(intValue.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void canBeConstructedFromAnInvalidValue() {
+        Validation<String, Integer> intValue = Validation.invalid("Error");
+        assertThat(intValue.isInvalid()).isTrue();
+        assertThat(intValue.getError()).isEqualTo("Error");
+    }
+
+    @Test
+    public void canAccumulateErrors() {
+        Validation<Seq<String>, String> result =
+                Validation.combine(validateName(""), validateAge(-1)).ap((name, age) -> name + age);
+
+        assertThat(result.getError()).isEqualTo(List.of("name is empty", "age is negative"));
+
+        Validation<Seq<String>, String> result2 =
+                Validation.combine(validateName("a"), validateAge(1)).ap((name, age) -> name + age);
+        assertThat(result2).isEqualTo(Validation.valid("a1"));
+    }
+
+    @Test
+    public void canValidateASingleRecord() {
+        Object[] record = {"a", 1, "a@b"};
+        assertThat(validator.validate(record).get()).isSameAs(record);
+
+        assertThat(validator.validate(new Object[] {"", -1, "ab"}).getError())
+                .isEqualTo(List.of("name is empty", "age is negative", "email is invalid"));
+    }
+
+    @Test
+    public void shouldTreatNullAndWrongTypeAsInvalid() {
+        assertThat(validator.validate(new Object[] {null, "1", "a@b"}).getError())
+                .isEqualTo(List.of("name is empty", "age is negative", "age is too large"));
+    }
+
+    @Test
+    public void canValidateRows() {
+        Object[][] rows = {{"a", 1, "a@b"}, {"", 200, "a@b"}, {"c", 3, "c@d"}, {"d", -1, "d"}};
+
+        ErrorBuffer errors = validator.validateRows(rows);
+
+        assertThat(errors.errorCount()).isEqualTo(4);
+        assertThat(errors.invalidRecordCount()).isEqualTo(2);
+        assertThat(errors.isValid(0)).isTrue();
+        assertThat(errors.errorsFor(1)).isEqualTo(List.of("name is empty", "age is too large"));
+        assertThat(errors.errorsFor(2)).isEmpty();
+        assertThat(errors.errorsFor(3)).isEqualTo(List.of("age is negative", "email is invalid"));
+    }
+
+    @Test
+    public void canValidateColumns() {
+        Object[][] rows = {{"a", 1, "a@b"}, {"", 200, "a@b"}, {"c", 3, "c@d"}, {"d", -1, "d"}};
+        Object[][] columns = new Object[3][rows.length];
+        for (int record = 0; record < rows.length; record++) {
+            for (int field = 0; field < 3; field++) {
+                columns[field][record] = rows[record][field];
+            }
+        }
+
+        ErrorBuffer errors = validator.validateColumns(columns, rows.length);
+        ErrorBuffer expected = validator.validateRows(rows);
+
+        assertThat(errors.errorCount()).isEqualTo(expected.errorCount());
+        for (int record = 0; record < rows.length; record++) {
+            assertThat(errors.errorsFor(record)).isEqualTo(expected.errorsFor(record));
+        }
+    }
+
+    @Test
+    public void canValidateRowsInParallel() {
+        int count = 100_000;
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = new Object[] {i % 7 == 0 ? "" : "n", i % 11 == 0 ? -i : i, "e@x"};
+        }
+
+        ErrorBuffer parallel = validator.validateRows(ForkJoinPool.commonPool(), rows);
+        ErrorBuffer sequential = validator.validateRows(rows);
+
+        assertThat(parallel.errorCount()).isEqualTo(sequential.errorCount());
+        assertThat(parallel.invalidRecordCount()).isEqualTo(sequential.invalidRecordCount());
+        assertThat(parallel.errorsFor(77)).isEqualTo(List.of("name is empty", "age is negative"));
+        assertThat(parallel.errorsFor(99_999)).isEqualTo(sequential.errorsFor(99_999));
+    }
 }